@@ -11,6 +11,7 @@ import javafx.application.Application;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -24,10 +25,13 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.LoadReport;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -49,25 +53,151 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** The preferences as last read from or written to the preference file. */
+    private UserPrefs savedUserPrefs;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        long phaseStart = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        phaseStart = logPhase("config", phaseStart);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        phaseStart = logPhase("preferences", phaseStart);
+
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
+        phaseStart = logPhase("storage", phaseStart);
 
         model = initModelManager(storage, userPrefs);
+        phaseStart = logPhase("data loading", phaseStart);
+
         logic = new LogicManager(model, storage);
         ui = new UiManager(logic);
+        logPhase("logic and UI", phaseStart);
+    }
+
+    /**
+     * Logs how long the startup phase named {@code phase}, begun at {@code phaseStart}, took, and returns the time
+     * the next phase begins.
+     */
+    private static long logPhase(String phase, long phaseStart) {
+        long now = System.nanoTime();
+        logger.info(String.format("Startup phase '%s' took %d ms", phase, (now - phaseStart) / 1_000_000));
+        return now;
     }
 
+    /**
+     * Returns the storage for the address book in the data file format chosen in {@code userPrefs}.
+     * <p>
+     * Data in the binary or segmented format that is no longer chosen is first moved back to the JSON data file, so
+     * that the chosen format starts from the latest data rather than from a JSON data file left as it was when it was
+     * converted. If that move fails, the data is used where it is for this session, so that none of it is lost.
+     * <p>
+     * When the binary or segmented format is chosen and there is no data in that format yet, it is then converted from
+     * the JSON data file. If that conversion fails, the JSON data file is used for this session, so that the next
+     * start tries again rather than finding a data file in the new format made from sample data.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        DataFileFormat format = userPrefs.getDataFileFormat();
+        Path snapshotPath = BinaryAddressBookStorage.snapshotPathFor(jsonFilePath);
+        Path manifestPath = SegmentedAddressBookStorage.manifestPathFor(jsonFilePath);
+        if (format != DataFileFormat.BINARY
+                && !moveToJson(snapshotPath, jsonFilePath, AddressBookFormatConverter::moveBinaryToJson)) {
+            return new BinaryAddressBookStorage(snapshotPath);
+        }
+        if (format != DataFileFormat.SEGMENTED
+                && !moveToJson(manifestPath, jsonFilePath, AddressBookFormatConverter::moveSegmentedToJson)) {
+            return new SegmentedAddressBookStorage(manifestPath);
+        }
+
+        switch (format) {
+        case BINARY:
+            if (!convertFromJson(jsonFilePath, snapshotPath, AddressBookFormatConverter::jsonToBinary)) {
+                return new JsonAddressBookStorage(jsonFilePath, true);
+            }
+            return new BinaryAddressBookStorage(snapshotPath);
+        case SEGMENTED:
+            if (!convertFromJson(jsonFilePath, manifestPath, AddressBookFormatConverter::jsonToSegmented)) {
+                return new JsonAddressBookStorage(jsonFilePath, true);
+            }
+            return new SegmentedAddressBookStorage(manifestPath);
+        default:
+            return new JsonAddressBookStorage(jsonFilePath, true);
+        }
+    }
+
+    /**
+     * Moves the data at {@code sourcePath}, in a data file format no longer chosen, back to the JSON data file at
+     * {@code jsonFilePath}, unless there is nothing to move.
+     *
+     * @return false if the move failed, in which case the data is still at {@code sourcePath}.
+     */
+    private boolean moveToJson(Path sourcePath, Path jsonFilePath, FormatMove move) {
+        if (!Files.exists(sourcePath)) {
+            return true;
+        }
+        try {
+            move.move(sourcePath, jsonFilePath);
+            logger.info("Moved " + sourcePath + " back to " + jsonFilePath + ".");
+            return true;
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not move " + sourcePath + " back to " + jsonFilePath + ", using " + sourcePath
+                    + " for this session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Converts the JSON data file at {@code jsonFilePath} to {@code targetPath}, unless there is nothing to convert.
+     *
+     * @return false if the conversion failed, in which case {@code targetPath} should not be used.
+     */
+    private boolean convertFromJson(Path jsonFilePath, Path targetPath, FormatConversion conversion) {
+        if (Files.exists(targetPath) || !Files.exists(jsonFilePath)) {
+            return true;
+        }
+        try {
+            LoadReport report = conversion.convert(jsonFilePath, targetPath);
+            logger.info("Converted " + jsonFilePath + " to " + targetPath + ", leaving out "
+                    + report.getInvalids().size() + " invalid entries.");
+            return true;
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert " + jsonFilePath + " to " + targetPath + ", using "
+                    + jsonFilePath + " for this session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Converts the JSON data file to another data file format, as done by {@link AddressBookFormatConverter}.
+     */
+    @FunctionalInterface
+    private interface FormatConversion {
+        LoadReport convert(Path jsonFile, Path targetFile) throws DataLoadingException, IOException;
+    }
+
+    /**
+     * Moves data in another data file format back to the JSON data file, as done by
+     * {@link AddressBookFormatConverter}.
+     */
+    @FunctionalInterface
+    private interface FormatMove {
+        void move(Path sourceFile, Path jsonFile) throws DataLoadingException, IOException;
+    }
+
+    /**
+     * Returns a model holding the address book read from {@code storageArg}. Whichever way the address book is
+     * obtained, {@code storageArg} is left holding a load report for it, so that the data file is not read again to
+     * find its invalid entries.
+     */
     private Model initModelManager(Storage storageArg, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storageArg.getAddressBookFilePath());
         ReadOnlyAddressBook initialData;
@@ -85,6 +215,7 @@ public class MainApp extends Application {
                 } catch (IOException ioe) {
                     logger.warning(String.format("Could not save sample data: %s", ioe.getMessage()));
                 }
+                storageArg.keepLoadReport(LoadReport.fromAddressBook(new seedu.address.model.AddressBook()));
             } else {
                 LoadReport report = storageArg.readAddressBookWithReport();
                 initialData = report.getModelData().getAddressBook();
@@ -95,9 +226,11 @@ public class MainApp extends Application {
             logger.warning("Data file at " + storageArg.getAddressBookFilePath()
                     + " could not be loaded. Will be starting with an empty AddressBook.");
             initialData = new seedu.address.model.AddressBook();
+            storageArg.keepLoadReport(LoadReport.fromAddressBook(new seedu.address.model.AddressBook()));
         } catch (Exception e) {
             logger.warning("Unexpected error loading data: " + e.getMessage());
             initialData = new seedu.address.model.AddressBook();
+            storageArg.keepLoadReport(LoadReport.fromAddressBook(new seedu.address.model.AddressBook()));
         }
         return new ModelManager(initialData, userPrefs);
     }
@@ -107,7 +240,8 @@ public class MainApp extends Application {
     }
 
     /**
-     * Loads config from file or returns default config.
+     * Loads config from file or returns default config. The config file is only written when it is missing or could
+     * not be loaded, so that a normal startup does not rewrite it.
      */
     protected Config initConfig(Path configFilePath) {
         Config initializedConfig;
@@ -122,10 +256,11 @@ public class MainApp extends Application {
 
         try {
             Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
+            if (configOptional.isPresent()) {
+                return configOptional.get();
             }
-            initializedConfig = configOptional.orElse(new Config());
+            logger.info("Creating new config file " + configFilePathUsed);
+            initializedConfig = new Config();
         } catch (DataLoadingException e) {
             logger.warning("Config file at " + configFilePathUsed
                     + " could not be loaded. Using default config properties.");
@@ -167,10 +302,11 @@ public class MainApp extends Application {
      *   are invalid, to avoid duplication.</li>
      * </ul>
      *
-     * @param report the {@code LoadReport} containing model data and invalid person entries
+     * @param report the {@code LoadReport} containing invalid person entries
+     * @param validCount the number of valid persons loaded
      * @return a formatted summary string to display in the UI
      */
-    private String buildInvalidSummary(seedu.address.storage.LoadReport report) {
+    private String buildInvalidSummary(seedu.address.storage.LoadReport report, int validCount) {
         var byIdx = report.getInvalids().stream().collect(
                 java.util.stream.Collectors.groupingBy(
                         seedu.address.storage.LoadReport.InvalidPersonEntry::index,
@@ -181,7 +317,6 @@ public class MainApp extends Application {
 
         int invalidPersonCount = byIdx.size();
         int invalidRecordCount = report.getInvalids().size();
-        int validCount = report.getModelData().getAddressBook().getPersonList().size();
         int total = validCount + invalidPersonCount;
 
         StringBuilder sb = new StringBuilder();
@@ -225,6 +360,11 @@ public class MainApp extends Application {
                 }
             }
 
+            entries.stream()
+                    .flatMap(inv -> inv.duplicateOf().stream())
+                    .findFirst()
+                    .ifPresent(original -> sb.append(String.format("  - Duplicate of person #%d\n", original + 1)));
+
             if (!badFields.isEmpty()) {
                 sb.append("  - Invalid fields: ").append(String.join(", ", badFields)).append("\n");
 
@@ -253,7 +393,8 @@ public class MainApp extends Application {
     }
 
     /**
-     * Loads user preferences from storage or returns defaults.
+     * Loads user preferences from storage or returns defaults. The preference file is only written when it is missing
+     * or could not be loaded.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storageArg) {
         Path prefsFilePath = storageArg.getUserPrefsFilePath();
@@ -262,10 +403,12 @@ public class MainApp extends Application {
         UserPrefs initializedPrefs;
         try {
             Optional<UserPrefs> prefsOptional = storageArg.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
+            if (prefsOptional.isPresent()) {
+                savedUserPrefs = new UserPrefs(prefsOptional.get());
+                return prefsOptional.get();
             }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+            logger.info("Creating new preference file " + prefsFilePath);
+            initializedPrefs = new UserPrefs();
         } catch (DataLoadingException e) {
             logger.warning("Preference file at " + prefsFilePath
                     + " could not be loaded. Using default preferences.");
@@ -274,6 +417,7 @@ public class MainApp extends Application {
 
         try {
             storageArg.saveUserPrefs(initializedPrefs);
+            savedUserPrefs = new UserPrefs(initializedPrefs);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
@@ -286,11 +430,12 @@ public class MainApp extends Application {
         logger.info("Starting AddressBook " + VERSION);
         primaryStage.setScene(new javafx.scene.Scene(new javafx.scene.Group()));
         try {
-            var report = storage.readAddressBookWithReport();
+            // The report of the load done by init, so the data file is not read again
+            var report = storage.getLoadReport();
             int invalidCount = report.getInvalids().size();
             logger.info("Invalid entry count at startup: " + invalidCount);
             if (invalidCount > 0) {
-                String summary = buildInvalidSummary(report);
+                String summary = buildInvalidSummary(report, model.getAddressBook().getPersonList().size());
                 javafx.scene.control.Alert alert = new javafx.scene.control.Alert(
                         javafx.scene.control.Alert.AlertType.INFORMATION);
                 alert.initOwner(primaryStage);
@@ -308,16 +453,49 @@ public class MainApp extends Application {
         } catch (seedu.address.commons.exceptions.DataLoadingException e) {
             logger.warning("Load report failed: " + e.getMessage());
         }
+        long phaseStart = System.nanoTime();
         ui.start(primaryStage);
+        logPhase("UI start", phaseStart);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // Commands still executing may change the address book, so they are waited for before it is flushed
+        ui.stop();
+        flushAddressBook();
+        if (model.getUserPrefs().equals(savedUserPrefs)) {
+            return;
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Waits for the saves of the address book still being written in the background. If one of them failed, or the
+     * address book has changes that were not saved, the whole address book is written again, since there is no next
+     * command to report the failure with. If that fails too, the user is told that the last changes may be lost.
+     */
+    private void flushAddressBook() {
+        try {
+            storage.flushAddressBook();
+            if (!model.isAddressBookDirty()) {
+                return;
+            }
+            logger.warning("Address book has unsaved changes, writing it again");
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background, writing it again " + StringUtil.getDetails(e));
+        }
+
+        try {
+            storage.saveAddressBook(model.getAddressBook(), storage.getAddressBookFilePath());
+            model.markAddressBookSaved(model.getAddressBookVersion());
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            ui.showSaveFailure(storage.getAddressBookFilePath() + ": " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The format in which the address book data file is stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, also used to import and export address books. */
+    JSON,
+    /** Compact binary snapshot, which loads faster for large address books. */
+    BINARY,
+    /** JSON split into segments of records, of which a save rewrites only those that changed. */
+    SEGMENTED
+}
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -101,6 +106,48 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Creates a streaming parser over {@code in}, for reading a JSON document one token at a time. Values can be read
+     * from it with {@link #readValue(JsonParser, Class)}. The caller closes the parser, which closes {@code in}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Reads the value starting at the current token of {@code parser} as an instance of a class, leaving the parser
+     * at the last token of the value.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the values read, or null if the current token is a JSON null
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Creates a streaming generator writing UTF-8 JSON to {@code out}, for writing a JSON document a piece at a time.
+     * Values can be written to it with {@link #writeValue(JsonGenerator, Object)}. Unless {@code isCompact}, the
+     * output is indented as by {@link #toJsonString(Object)}. The caller closes the generator, which closes
+     * {@code out}; flushing the generator does not flush {@code out}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isCompact) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        if (!isCompact) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Writes {@code instance} as the next value of {@code generator}.
+     */
+    public static void writeValue(JsonGenerator generator, Object instance) throws IOException {
+        objectMapper.writeValue(generator, instance);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -111,6 +158,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, with no
+     * whitespace between tokens.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
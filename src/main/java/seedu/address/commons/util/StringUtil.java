@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +39,20 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if each of {@code strings} contains at least one of {@code parts}, ignoring case.
+     *   <br>examples:<pre>
+     *       eachContainsAnyIgnoreCase(List.of("Alic", "bob"), List.of("ali", "Bo")) == true
+     *       eachContainsAnyIgnoreCase(List.of("Alic", "Carl"), List.of("ali")) == false
+     *       </pre>
+     */
+    public static boolean eachContainsAnyIgnoreCase(List<String> strings, List<String> parts) {
+        requireNonNull(strings);
+        requireNonNull(parts);
+        return strings.stream().allMatch(string -> parts.stream()
+                .anyMatch(part -> string.toLowerCase().contains(part.toLowerCase())));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
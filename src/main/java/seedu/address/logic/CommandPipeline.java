@@ -0,0 +1,217 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.MirroredList.RecordedChange;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * Executes commands on a background thread, so that the UI stays responsive while a command parses, filters or saves.
+ * <p>
+ * Commands are executed one at a time, in the order they were submitted, by a single thread, which is the only thread
+ * that changes the model. The UI shows copies of the filtered lists of {@link Logic}, which are not changed while a
+ * command executes. Once a command is done, a commit step run by the committer (the JavaFX application thread in the
+ * app) applies the list changes the command made to the copies, then reports its result. The persons and properties
+ * in the copies are shared with the model, which relies on them being immutable: a command changes a person by
+ * replacing it with a changed copy.
+ * <p>
+ * Every method of this class other than {@link #shutdown()} must be called on the committer's thread.
+ */
+public class CommandPipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    private final Logic logic;
+    private final Executor committer;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MirroredList<Person> personList;
+    private final MirroredList<Property> propertyList;
+    private final ReadOnlyIntegerWrapper pendingCommands = new ReadOnlyIntegerWrapper(0);
+    /** Counts the previews, cancellations and commands submitted, so that a preview can tell if it was superseded. */
+    private final AtomicLong latestPreview = new AtomicLong();
+
+    /**
+     * Creates a pipeline executing commands with {@code logic}, whose model must not change while it is created, and
+     * running each commit step on {@code committer}.
+     */
+    public CommandPipeline(Logic logic, Executor committer) {
+        this.logic = requireNonNull(logic);
+        this.committer = requireNonNull(committer);
+        personList = new MirroredList<>(logic.getFilteredPersonList());
+        propertyList = new MirroredList<>(logic.getFilteredPropertyList());
+    }
+
+    /** Returns an unmodifiable copy of the filtered list of persons, changed only by commit steps. */
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /** Returns an unmodifiable copy of the filtered list of properties, changed only by commit steps. */
+    public ObservableList<Property> getPropertyList() {
+        return propertyList;
+    }
+
+    /** Returns the number of submitted commands whose commit step has not run yet. */
+    public ReadOnlyIntegerProperty pendingCommandsProperty() {
+        return pendingCommands.getReadOnlyProperty();
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after the commands submitted before it, and reports its outcome to
+     * {@code callback} in its commit step. Supersedes the previews submitted before it.
+     */
+    public void submit(String commandText, CommandCallback callback) {
+        requireNonNull(commandText);
+        requireNonNull(callback);
+        pendingCommands.set(pendingCommands.get() + 1);
+        latestPreview.incrementAndGet();
+        worker.execute(() -> execute(commandText, callback));
+    }
+
+    /**
+     * Queues {@code commandText}, as typed so far, to be previewed after the commands submitted before it, and gives
+     * its result to {@code onResult} in its commit step, or an empty {@code Optional} if it could not be previewed.
+     * <p>
+     * A preview is superseded by any preview, cancellation or command submitted after it. A superseded preview is
+     * skipped if it has not started yet, and its result is not given if it has, so only the results of the latest
+     * preview are shown.
+     *
+     * @see Logic#preview(String)
+     */
+    public void preview(String commandText, Consumer<Optional<CommandResult>> onResult) {
+        requireNonNull(commandText);
+        requireNonNull(onResult);
+        long generation = latestPreview.incrementAndGet();
+        worker.execute(() -> {
+            if (latestPreview.get() != generation) {
+                return;
+            }
+            Optional<CommandResult> result = logic.preview(commandText);
+            if (latestPreview.get() != generation) {
+                // The changes it made are applied with the commit step of whatever superseded it
+                return;
+            }
+            commitPreview(generation, () -> onResult.accept(result));
+        });
+    }
+
+    /**
+     * Queues the previews shown so far to be undone after the commands submitted before it, and runs
+     * {@code onCancelled} in its commit step unless another preview or command has been submitted since. Supersedes
+     * the previews submitted before it.
+     * <p>
+     * Unlike a preview, a cancellation is never skipped, so that a command submitted after it does not act on the
+     * lists as a preview left them.
+     *
+     * @see Logic#cancelPreview()
+     */
+    public void cancelPreview(Runnable onCancelled) {
+        requireNonNull(onCancelled);
+        long generation = latestPreview.incrementAndGet();
+        worker.execute(() -> {
+            logic.cancelPreview();
+            commitPreview(generation, onCancelled);
+        });
+    }
+
+    /**
+     * Applies the list changes made so far in a commit step, which then runs {@code report} if the preview or
+     * cancellation numbered {@code generation} is still the latest.
+     */
+    private void commitPreview(long generation, Runnable report) {
+        List<RecordedChange<Person>> personChanges = personList.takeChanges();
+        List<RecordedChange<Property>> propertyChanges = propertyList.takeChanges();
+        committer.execute(() -> {
+            personList.apply(personChanges);
+            propertyList.apply(propertyChanges);
+            if (latestPreview.get() == generation) {
+                report.run();
+            }
+        });
+    }
+
+    private void execute(String commandText, CommandCallback callback) {
+        CommandResult result = null;
+        Exception failure = null;
+        try {
+            result = logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            // Reported as a failure, so that the command is put back in the command box and the worker keeps going
+            logger.severe("Unexpected error while executing command: " + commandText + StringUtil.getDetails(e));
+            failure = new CommandException(Messages.MESSAGE_UNEXPECTED_ERROR, e);
+        }
+
+        // A failed command may still have changed the model, so its changes are applied in any case
+        List<RecordedChange<Person>> personChanges = personList.takeChanges();
+        List<RecordedChange<Property>> propertyChanges = propertyList.takeChanges();
+        CommandResult commandResult = result;
+        Exception commandFailure = failure;
+        committer.execute(() -> {
+            personList.apply(personChanges);
+            propertyList.apply(propertyChanges);
+            pendingCommands.set(pendingCommands.get() - 1);
+            if (commandFailure != null) {
+                callback.onFailure(commandFailure);
+            } else {
+                callback.onSuccess(commandResult);
+            }
+        });
+    }
+
+    /**
+     * Stops taking commands, and waits for the commands already submitted to be executed. Their commit steps may not
+     * have run when this returns.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still executing after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Receives the outcome of a submitted command in its commit step.
+     */
+    public interface CommandCallback {
+        /** Called with the result of a command that succeeded. */
+        void onSuccess(CommandResult result);
+
+        /**
+         * Called with the {@code CommandException} or {@code ParseException} of a command that failed. An unexpected
+         * error is given as a {@code CommandException} with a generic message.
+         */
+        void onFailure(Exception e);
+    }
+}
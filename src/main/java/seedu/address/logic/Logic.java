@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command if it only changes which persons or properties are shown, to preview its results while it
+     * is still being typed. Nothing is saved. If the command is invalid or cannot be previewed, what the previews
+     * before it showed is undone, as by {@link #cancelPreview()}.
+     *
+     * @param commandText The command as typed so far.
+     * @return the result of the command, or an empty {@code Optional} if it is invalid or cannot be previewed.
+     * @see seedu.address.logic.commands.Command#isPreviewable()
+     */
+    Optional<CommandResult> preview(String commandText);
+
+    /**
+     * Shows the persons and properties shown before the previews since the last command executed, as the command
+     * being previewed was not entered. Does nothing if there were no such previews.
+     */
+    void cancelPreview();
+
     /**
      * Returns the AddressBook.
      *
@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -22,7 +24,7 @@ import seedu.address.storage.Storage;
 /**
  * The main logic layer entry point.
  * Parses user input into commands and persists model updates via {@link Storage}.
- * Only mutating commands trigger saving to storage.
+ * The address book is saved only after commands that changed it, as told by its modification version.
  */
 public class LogicManager implements Logic {
 
@@ -36,6 +38,10 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final EstateSearchParser addressBookParser;
 
+    /** The predicates of the filtered lists before the previews since the last command, or null if there were none. */
+    private Predicate<Person> personPredicateBeforePreview;
+    private Predicate<Property> propertyPredicateBeforePreview;
+
     /**
      * Creates a {@code LogicManager}.
      *
@@ -51,45 +57,71 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        // The command acts on the lists as shown, so what the previews before it did is kept
+        personPredicateBeforePreview = null;
+        propertyPredicateBeforePreview = null;
 
         Command command = addressBookParser.parseCommand(commandText);
         CommandResult commandResult = command.execute(model);
 
-        if (isMutatingCommand(command)) {
+        if (model.isAddressBookDirty()) {
+            long version = model.getAddressBookVersion();
             try {
                 storage.saveAddressBook(model.getAddressBook());
-            } catch (AccessDeniedException e) {
-                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
             } catch (IOException ioe) {
-                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+                throw new CommandException(toSaveFailureMessage(ioe), ioe);
             }
+            model.markAddressBookSaved(version);
+        }
+
+        // Saves may be written in the background, in which case a failure is reported with the next command, which
+        // itself succeeded
+        Optional<IOException> backgroundSaveFailure = storage.takeBackgroundSaveFailure();
+        if (backgroundSaveFailure.isPresent()) {
+            logger.warning("Background save failed: " + backgroundSaveFailure.get());
+            model.markAddressBookDirty();
+            return commandResult.withFeedbackNote(toSaveFailureMessage(backgroundSaveFailure.get()));
         }
 
         return commandResult;
     }
 
-    /**
-     * Determines if the given command modifies the AddressBook data.
-     * Non-mutating commands (such as list, find, help, exit) do not trigger saving.
-     */
-    private boolean isMutatingCommand(Command command) {
-        String name = command.getClass().getSimpleName();
-        return name.equals("AddCommand")
-                || name.equals("EditCommand")
-                || name.equals("EditPropertyCommand")
-                || name.equals("DeleteCommand")
-                || name.equals("DeletePropertyCommand")
-                || name.equals("ClearCommand")
-                || name.equals("FixInvalidCommand")
-                || name.equals("ImportCommand")
-                || name.equals("ExportCommand")
-                || name.equals("TagCommand")
-                || name.equals("UntagCommand")
-                || name.equals("SetOwnedPropertyCommand")
-                || name.equals("InterestedPropertyCommand")
-                || name.equals("AddPropertyCommand")
-                || name.equals("DeleteInterestedPropertyCommand")
-                || name.equals("DeleteOwnedPropertyCommand");
+    @Override
+    public Optional<CommandResult> preview(String commandText) {
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            if (!command.isPreviewable()) {
+                cancelPreview();
+                return Optional.empty();
+            }
+            if (personPredicateBeforePreview == null) {
+                personPredicateBeforePreview = model.getFilteredPersonPredicate();
+                propertyPredicateBeforePreview = model.getFilteredPropertyPredicate();
+            }
+            return Optional.of(command.execute(model));
+        } catch (CommandException | ParseException e) {
+            // A command still being typed is often invalid, and its results are not what the last preview showed
+            cancelPreview();
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cancelPreview() {
+        if (personPredicateBeforePreview == null) {
+            return;
+        }
+        model.updateFilteredPersonList(personPredicateBeforePreview);
+        model.updateFilteredPropertyList(propertyPredicateBeforePreview);
+        personPredicateBeforePreview = null;
+        propertyPredicateBeforePreview = null;
+    }
+
+    private static String toSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
@@ -21,6 +21,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX = "The property index provided is invalid";
     public static final String MESSAGE_INVALID_OUT_OF_RANGE_INDEX = "The index provided is out of range";
     public static final String MESSAGE_PROPERTY_NOT_FOUND = "The property %1$s could not be found.";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Something went wrong while executing the command."
+        + " Please try again.";
     public static final String MESSAGE_DUPLICATE_FIELDS = "Multiple values specified for the"
         + " following single-valued field(s): ";
 
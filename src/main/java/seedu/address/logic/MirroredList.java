@@ -0,0 +1,121 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only copy of an observable list that only changes when told to, so that the source list can change on one
+ * thread while the copy is shown on another.
+ * <p>
+ * The changes of the source list are recorded as they happen, on the thread making them. They are handed over by
+ * {@link #takeChanges()} and applied to the copy by {@link #apply(List)}, which fires them as one change, however many
+ * changes of the source list they are.
+ */
+class MirroredList<T> extends ObservableListBase<T> {
+
+    private final List<T> items;
+    private List<RecordedChange<T>> recorded = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code source}, which must not change while it is copied.
+     */
+    MirroredList(ObservableList<T> source) {
+        items = new ArrayList<>(source);
+        source.addListener((ListChangeListener<T>) this::record);
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    private synchronized void record(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                // The range is reordered in place, which is shown as replacing it with its new order
+                List<T> reordered = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                recorded.add(new RecordedChange<>(from, change.getTo() - from, reordered, false));
+            } else if (change.wasUpdated()) {
+                recorded.add(new RecordedChange<>(from, change.getTo() - from, List.of(), true));
+            } else {
+                recorded.add(new RecordedChange<>(from, change.getRemovedSize(),
+                        new ArrayList<>(change.getAddedSubList()), false));
+            }
+        }
+    }
+
+    /**
+     * Returns the changes the source list made since they were last taken, in order.
+     */
+    synchronized List<RecordedChange<T>> takeChanges() {
+        List<RecordedChange<T>> changes = recorded;
+        recorded = new ArrayList<>();
+        return changes;
+    }
+
+    /**
+     * Applies {@code changes}, taken from this list by {@link #takeChanges()}, to the copy.
+     */
+    void apply(List<RecordedChange<T>> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        beginChange();
+        try {
+            for (RecordedChange<T> change : changes) {
+                applyChange(change);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void applyChange(RecordedChange<T> change) {
+        int from = change.from;
+        if (change.isUpdate) {
+            for (int i = from; i < from + change.removedSize; i++) {
+                nextUpdate(i);
+            }
+            return;
+        }
+
+        List<T> range = items.subList(from, from + change.removedSize);
+        List<T> removed = new ArrayList<>(range);
+        range.clear();
+        items.addAll(from, change.added);
+        if (!removed.isEmpty()) {
+            nextRemove(from, removed);
+        }
+        if (!change.added.isEmpty()) {
+            nextAdd(from, from + change.added.size());
+        }
+    }
+
+    /**
+     * A change of the source list: {@code removedSize} elements from {@code from} replaced by {@code added}, or
+     * updated in place.
+     */
+    static class RecordedChange<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+        private final boolean isUpdate;
+
+        private RecordedChange(int from, int removedSize, List<T> added, boolean isUpdate) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+            this.isUpdate = isUpdate;
+        }
+    }
+}
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command only changes which persons or properties are shown, so that it can be
+     * executed to preview its results while it is still being typed.
+     */
+    public boolean isPreviewable() {
+        return false;
+    }
+
 }
@@ -30,10 +30,7 @@ public class CommandResult {
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
-        this.feedbackToUser = requireNonNull(feedbackToUser);
-        this.showHelp = showHelp;
-        this.exit = exit;
-        this.viewType = ViewType.NONE;
+        this(feedbackToUser, showHelp, exit, ViewType.NONE);
     }
 
     /**
@@ -48,12 +45,24 @@ public class CommandResult {
      * Constructs a {@code CommandResult} with view type.
      */
     public CommandResult(String feedbackToUser, ViewType viewType) {
+        this(feedbackToUser, false, false, viewType);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, ViewType viewType) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
-        this.showHelp = false;
-        this.exit = false;
+        this.showHelp = showHelp;
+        this.exit = exit;
         this.viewType = viewType;
     }
 
+    /**
+     * Returns a copy of this result with {@code note} shown on a line after its feedback.
+     */
+    public CommandResult withFeedbackNote(String note) {
+        requireNonNull(note);
+        return new CommandResult(feedbackToUser + "\n" + note, showHelp, exit, viewType);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -9,7 +10,7 @@ import seedu.address.storage.LoadReport;
 import seedu.address.storage.Storage;
 
 /**
- * Represents a command that fixes an invalid person entry by overwriting raw storage data.
+ * Represents a command that fixes an invalid person entry quarantined when the data file was loaded.
  */
 public class FixInvalidCommand extends Command {
     /**
@@ -20,6 +21,9 @@ public class FixInvalidCommand extends Command {
             COMMAND_WORD + ": Fixes a quarantined invalid person at index i/INDEX with corrected fields.\n"
                     + "Parameters: i/INDEX n/NAME p/PHONE e/EMAIL a/ADDRESS\n"
                     + "Example: " + COMMAND_WORD + " i/0 n/Alex p/987 e/alex@x.com a/Blk 1 l/HDB";
+    public static final String MESSAGE_NOT_QUARANTINED = "There is no invalid entry at index %d to fix.";
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "Cannot fix invalid entry at index %d: this person already exists in the address book.";
 
     private final int jsonIndex;
     private final Person corrected;
@@ -30,7 +34,7 @@ public class FixInvalidCommand extends Command {
      *
      * @param jsonIndex The index of the invalid entry in the JSON file.
      * @param corrected The corrected {@code Person} object.
-     * @param storage The storage handler to perform overwrite operations.
+     * @param storage The storage keeping the report of invalid entries.
      */
     public FixInvalidCommand(int jsonIndex, Person corrected, Storage storage) {
         this.jsonIndex = jsonIndex;
@@ -39,23 +43,31 @@ public class FixInvalidCommand extends Command {
     }
 
     /**
-     * Executes the fix operation by overwriting the raw JSON entry and refreshing the model.
-     * @throws CommandException if the fix fails or storage cannot be written
+     * Executes the fix by adding the corrected person to the model in place of the quarantined entry, and marking
+     * that entry fixed in the load report kept by storage. The change is saved with the rest of the address book.
+     * @throws CommandException if there is no quarantined entry at the index, or the corrected person already exists
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        LoadReport report;
         try {
-            // Overwrite the raw JSON entry in place, then get a fresh report
-            LoadReport report = storage.overwriteRawEntryAtIndex(jsonIndex, corrected);
-
-            // Replace the in-memory model with the fully reloaded valid content
-            model.setAddressBook(report.getModelData().getAddressBook());
-
-            return new CommandResult("Fixed invalid entry at index " + jsonIndex + ".");
-        } catch (Exception e) {
+            report = storage.getLoadReport();
+        } catch (DataLoadingException e) {
             throw new CommandException("Failed to fix invalid entry at index " + jsonIndex + ": " + e.getMessage(), e);
         }
+
+        boolean isQuarantined = report.getInvalids().stream().anyMatch(entry -> entry.index() == jsonIndex);
+        if (!isQuarantined) {
+            throw new CommandException(String.format(MESSAGE_NOT_QUARANTINED, jsonIndex));
+        }
+        if (model.hasPerson(corrected)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSON, jsonIndex));
+        }
+
+        model.addPerson(corrected);
+        storage.resolveInvalidPersons(jsonIndex);
+        return new CommandResult("Fixed invalid entry at index " + jsonIndex + ".");
     }
 
     @Override
@@ -70,9 +70,7 @@ public class DeleteCommand extends Command {
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
                     Messages.formatPerson(personToDelete)));
         } else if (targetEmail != null) {
-            Optional<Person> personToDelete = model.getFilteredPersonList().stream()
-                    .filter(p -> p.getEmail().equals(targetEmail))
-                    .findFirst();
+            Optional<Person> personToDelete = model.getPersonsWithEmail(targetEmail).stream().findFirst();
             if (personToDelete.isEmpty()) {
                 throw new CommandException("No person found with the specified email.");
             }
@@ -62,10 +62,7 @@ public class DeleteOwnedPropertyCommand extends Command {
 
         Person targetPerson = model.getFilteredPersonList().get(targetPersonIndex.getZeroBased());
 
-        Property toDelete = model.getAddressBook().getPropertyList().stream()
-                .filter(p -> PropertyName.canonicalLoose(p.getPropertyName().toString())
-                        .equals(PropertyName.canonicalLoose(targetPropertyName.getFullName())))
-                .findFirst()
+        Property toDelete = model.getAddressBook().getPropertyByNameIgnoreCase(targetPropertyName.getFullName())
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_PROPERTY_NOT_FOUND,
                         targetPropertyName.getFullName())));
 
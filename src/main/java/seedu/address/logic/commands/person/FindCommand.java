@@ -53,6 +53,11 @@ public class FindCommand extends Command {
         return new CommandResult(resultMessage);
     }
 
+    @Override
+    public boolean isPreviewable() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
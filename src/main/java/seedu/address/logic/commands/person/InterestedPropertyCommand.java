@@ -64,9 +64,7 @@ public class InterestedPropertyCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        toAdd = model.getAddressBook().getPropertyList().stream()
-                .filter(property -> property.getPropertyName().equals(targetPropertyName))
-                .findFirst()
+        toAdd = model.getAddressBook().getPropertyByNameIgnoreCase(targetPropertyName.fullName)
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_PROPERTY_NOT_FOUND,
                         targetPropertyName.fullName)));
         try {
@@ -83,8 +81,7 @@ public class InterestedPropertyCommand extends Command {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_LINK, targetPropertyName.fullName));
         }
 
-        targetPerson.setInterestedProperty(toAdd);
-        model.setPerson(targetPerson, targetPerson);
+        model.setPerson(targetPerson, targetPerson.withInterestedProperty(toAdd));
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 targetPerson.getName().fullName, toAdd.getPropertyName().toString()));
     }
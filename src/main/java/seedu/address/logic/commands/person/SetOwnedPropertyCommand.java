@@ -59,9 +59,7 @@ public class SetOwnedPropertyCommand extends Command {
 
         Person target = lastShownList.get(index.getZeroBased());
 
-        Property prop = model.getAddressBook().getPropertyList().stream()
-                .filter(p -> p.getPropertyName().toString().trim().equalsIgnoreCase(propertyName.trim()))
-                .findFirst()
+        Property prop = model.getAddressBook().getPropertyByNameIgnoreCase(propertyName)
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_PROP_NOT_FOUND, propertyName)));
 
         if (target.getInterestedProperties().stream().anyMatch(prop::isSameProperty)) {
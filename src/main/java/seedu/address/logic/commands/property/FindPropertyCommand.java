@@ -19,10 +19,11 @@ public class FindPropertyCommand extends Command {
 
     public static final String COMMAND_WORD = "findp";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Find property by name and displays them as a "
-            + "list.\n"
-            + "Parameters: findp n/NAME\n"
-            + "Example: " + COMMAND_WORD + " n/Chapel Hill House\n";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Find property by name and/or price range and "
+            + "displays them as a list.\n"
+            + "Parameters: findp [n/NAME] [min/MIN_PRICE] [max/MAX_PRICE] (at least one)\n"
+            + "Example: " + COMMAND_WORD + " n/Chapel Hill House\n"
+            + "Example: " + COMMAND_WORD + " min/500000 max/900000\n";
 
     private final Predicate<Property> predicate;
 
@@ -39,6 +40,11 @@ public class FindPropertyCommand extends Command {
                 String.format(Messages.MESSAGE_PROPERTY_LISTED_OVERVIEW, model.getFilteredPropertyList().size()));
     }
 
+    @Override
+    public boolean isPreviewable() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -13,4 +13,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_INDEX = new Prefix("i/");
     public static final Prefix PREFIX_PRICE = new Prefix("pr/");
+    public static final Prefix PREFIX_MIN_PRICE = new Prefix("min/");
+    public static final Prefix PREFIX_MAX_PRICE = new Prefix("max/");
 }
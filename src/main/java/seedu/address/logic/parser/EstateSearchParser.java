@@ -129,7 +129,7 @@ public class EstateSearchParser {
             ensureStorageAvailableFor("list-invalid");
             return new ListInvalidCommand(() -> {
                 try {
-                    return storage.readAddressBookWithReport();
+                    return storage.getLoadReport();
                 } catch (seedu.address.commons.exceptions.DataLoadingException e) {
                     return new seedu.address.storage.LoadReport(
                             new seedu.address.storage.LoadReport.ModelData(new seedu.address.model.AddressBook()),
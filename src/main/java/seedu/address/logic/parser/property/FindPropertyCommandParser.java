@@ -1,18 +1,31 @@
 package seedu.address.logic.parser.property;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import seedu.address.logic.commands.property.FindPropertyCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.property.PriceRangePredicate;
 import seedu.address.model.property.PropertyNameContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindPropertyCommand object
  */
 public class FindPropertyCommandParser implements Parser<FindPropertyCommand> {
+    public static final String MESSAGE_MISSING_NAME = "No name provided after n/";
+    public static final String MESSAGE_MISSING_CRITERIA =
+            "Command should start with n/NAME, min/MIN_PRICE or max/MAX_PRICE for findp.";
+    public static final String MESSAGE_INVALID_PRICE_BOUND =
+            "Price bounds should be non-negative integers with no commas or decimal points.";
+    public static final String MESSAGE_INVERTED_PRICE_RANGE = "Minimum price cannot be more than maximum price.";
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindPropertyCommand
@@ -26,17 +39,48 @@ public class FindPropertyCommandParser implements Parser<FindPropertyCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPropertyCommand.MESSAGE_USAGE));
         }
 
-        if (trimmedArgs.startsWith("n/")) {
-            String nameArgs = trimmedArgs.substring(2).trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs,
+                PREFIX_NAME, PREFIX_MIN_PRICE, PREFIX_MAX_PRICE);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(MESSAGE_MISSING_CRITERIA);
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_MIN_PRICE, PREFIX_MAX_PRICE);
+
+        PropertyNameContainsKeywordsPredicate namePredicate = null;
+        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            String nameArgs = argMultimap.getValue(PREFIX_NAME).get().trim();
             if (nameArgs.isEmpty()) {
-                throw new ParseException("No name provided after n/");
+                throw new ParseException(MESSAGE_MISSING_NAME);
             }
             String[] nameKeywords = nameArgs.split("\\s+");
-            return new FindPropertyCommand(new PropertyNameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-        } else {
-            throw new ParseException("Command should start with n/NAME for findp.");
+            namePredicate = new PropertyNameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
         }
 
+        Optional<Integer> minPrice = parsePriceBound(argMultimap.getValue(PREFIX_MIN_PRICE));
+        Optional<Integer> maxPrice = parsePriceBound(argMultimap.getValue(PREFIX_MAX_PRICE));
+        if (minPrice.isEmpty() && maxPrice.isEmpty()) {
+            return new FindPropertyCommand(namePredicate);
+        }
+        if (minPrice.isPresent() && maxPrice.isPresent() && minPrice.get() > maxPrice.get()) {
+            throw new ParseException(MESSAGE_INVERTED_PRICE_RANGE);
+        }
+        return new FindPropertyCommand(new PriceRangePredicate(minPrice.orElse(null), maxPrice.orElse(null),
+                namePredicate));
+    }
+
+    private static Optional<Integer> parsePriceBound(Optional<String> bound) throws ParseException {
+        if (bound.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            int value = Integer.parseInt(bound.get().trim());
+            if (value < 0) {
+                throw new ParseException(MESSAGE_INVALID_PRICE_BOUND);
+            }
+            return Optional.of(value);
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_PRICE_BOUND);
+        }
     }
 
 }
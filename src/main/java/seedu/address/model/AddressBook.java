@@ -3,12 +3,19 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyNameIndex;
 import seedu.address.model.property.UniquePropertyList;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
 import seedu.address.model.property.exceptions.PropertyNotFoundException;
@@ -21,6 +28,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniquePropertyList properties;
+    private final PropertyNameIndex propertyNames = new PropertyNameIndex();
+    private long version;
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -31,6 +40,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         properties = new UniquePropertyList();
+        // Persons changed in place are set back into the list, so every change to the data passes through here
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        properties.asUnmodifiableObservableList().addListener((ListChangeListener<Property>) change -> version++);
     }
 
     public AddressBook() {}
@@ -41,8 +53,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
-        properties.setProperties(toBeCopied.getPropertyList());
+    }
 
+    /**
+     * Returns the modification version of this address book, which increases with every change to its persons or
+     * properties. Two equal versions of the same address book mean it did not change in between.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// list overwrite operations
@@ -102,6 +120,71 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the persons whose name matches any of {@code keywords}, as a {@link NameContainsKeywordsPredicate}
+     * would decide, in a set compared by reference.
+     */
+    public Set<Person> findPersonsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findByName(keywords);
+    }
+
+    /**
+     * Returns the persons having a tag matching any of {@code tagNames} ignoring case, in a set compared by reference.
+     */
+    public Set<Person> findPersonsWithAnyTag(List<String> tagNames) {
+        requireNonNull(tagNames);
+        return persons.findByAnyTag(tagNames);
+    }
+
+    /**
+     * Returns the persons having tags matching all of {@code tagNames} ignoring case, in a set compared by reference.
+     */
+    public Set<Person> findPersonsWithAllTags(List<String> tagNames) {
+        requireNonNull(tagNames);
+        return persons.findByAllTags(tagNames);
+    }
+
+    /**
+     * Returns the number of persons having a tag matching {@code tagName} ignoring case.
+     */
+    public int countPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        return persons.countWithTag(tagName);
+    }
+
+    /**
+     * Returns the persons with the given {@code email}.
+     */
+    public List<Person> getPersonsWithEmail(Email email) {
+        requireNonNull(email);
+        return persons.getPersonsWithEmail(email);
+    }
+
+    /**
+     * Returns the persons with the given {@code phone}.
+     */
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return persons.getPersonsWithPhone(phone);
+    }
+
+    /**
+     * Returns the persons that own {@code property}.
+     */
+    public List<Person> getOwnersOf(Property property) {
+        requireNonNull(property);
+        return persons.getOwnersOf(property);
+    }
+
+    /**
+     * Returns the persons that are interested in {@code property}.
+     */
+    public List<Person> getPersonsInterestedIn(Property property) {
+        requireNonNull(property);
+        return persons.getPersonsInterestedIn(property);
+    }
+
 
     //// property-level operations
 
@@ -127,6 +210,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addProperty(Property property) {
         properties.add(property);
+        propertyNames.add(property);
     }
 
     /**
@@ -139,6 +223,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedProperty);
 
         properties.setProperty(target, editedProperty);
+        propertyNames.replace(target, editedProperty);
     }
 
     /**
@@ -147,6 +232,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setProperties(List<Property> properties) {
         this.properties.setProperties(properties);
+        propertyNames.rebuild(properties);
     }
 
     /**
@@ -159,6 +245,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeProperty(Property toRemove) {
         properties.remove(toRemove);
+        propertyNames.remove(toRemove);
+    }
+
+    /**
+     * Returns the properties priced from {@code minPrice} to {@code maxPrice} inclusive, in ascending order of price.
+     */
+    public List<Property> getPropertiesInPriceRange(int minPrice, int maxPrice) {
+        return properties.getPropertiesInPriceRange(minPrice, maxPrice);
+    }
+
+    @Override
+    public Optional<Property> getPropertyByName(String name) {
+        return propertyNames.getByName(name);
+    }
+
+    @Override
+    public Optional<Property> getPropertyByNameIgnoreCase(String name) {
+        return propertyNames.getByNameIgnoreCase(name);
     }
 
     //// util methods
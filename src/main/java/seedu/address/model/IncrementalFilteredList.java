@@ -0,0 +1,265 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of a source list that its predicate accepts, like {@code FilteredList}, that changes only
+ * what it must when its predicate changes.
+ * <p>
+ * {@code FilteredList} tests every element of the source list against a new predicate and reports the whole list as
+ * replaced. This list reports only the elements the new predicate added or removed. When the new predicate is known
+ * to accept fewer elements than the current one, {@link #narrowPredicate(Predicate)} tests only the elements in the
+ * list; when it is known to accept more, {@link #widenPredicate(Predicate)} tests only the elements left out.
+ */
+class IncrementalFilteredList<E> extends TransformationList<E, E> {
+
+    private Predicate<? super E> predicate = unused -> true;
+
+    /** Indices in the source list of the elements in this list, in ascending order. */
+    private int[] filtered;
+    private int size;
+
+    /**
+     * Creates a list of every element of {@code source}.
+     */
+    IncrementalFilteredList(ObservableList<E> source) {
+        super(source);
+        filtered = new int[source.size()];
+        for (int i = 0; i < filtered.length; i++) {
+            filtered[i] = i;
+        }
+        size = filtered.length;
+    }
+
+    Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Keeps the elements of the source list that {@code predicate} accepts, testing every one of them.
+     */
+    void setPredicate(Predicate<? super E> predicate) {
+        this.predicate = requireNonNull(predicate);
+        List<? extends E> source = getSource();
+        int[] matches = new int[source.size()];
+        int count = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                matches[count++] = i;
+            }
+        }
+        replaceMatches(matches, count);
+    }
+
+    /**
+     * Keeps the elements of the source list that {@code predicate} accepts, which must only be elements the current
+     * predicate accepts, so that only the elements in this list are tested.
+     */
+    void narrowPredicate(Predicate<? super E> predicate) {
+        this.predicate = requireNonNull(predicate);
+        List<? extends E> source = getSource();
+        int[] matches = new int[size];
+        int count = 0;
+        for (int k = 0; k < size; k++) {
+            if (predicate.test(source.get(filtered[k]))) {
+                matches[count++] = filtered[k];
+            }
+        }
+        replaceMatches(matches, count);
+    }
+
+    /**
+     * Keeps the elements of the source list that {@code predicate} accepts, which must include every element the
+     * current predicate accepts, so that only the elements left out of this list are tested.
+     */
+    void widenPredicate(Predicate<? super E> predicate) {
+        this.predicate = requireNonNull(predicate);
+        List<? extends E> source = getSource();
+        int[] matches = new int[source.size()];
+        int count = 0;
+        int k = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (k < size && filtered[k] == i) {
+                matches[count++] = i;
+                k++;
+            } else if (predicate.test(source.get(i))) {
+                matches[count++] = i;
+            }
+        }
+        replaceMatches(matches, count);
+    }
+
+    /**
+     * Makes this list the elements at the first {@code count} of {@code matches}, reporting the elements removed and
+     * added, each run of them as one change.
+     */
+    private void replaceMatches(int[] matches, int count) {
+        int[] previous = filtered;
+        int previousSize = size;
+        filtered = matches;
+        size = count;
+
+        beginChange();
+        int i = 0;
+        int j = 0;
+        int viewIndex = 0;
+        while (i < previousSize || j < count) {
+            int previousIndex = i < previousSize ? previous[i] : Integer.MAX_VALUE;
+            int matchIndex = j < count ? matches[j] : Integer.MAX_VALUE;
+            if (previousIndex == matchIndex) {
+                i++;
+                j++;
+                viewIndex++;
+            } else if (previousIndex < matchIndex) {
+                nextRemove(viewIndex, getSource().get(previousIndex));
+                i++;
+            } else {
+                nextAdd(viewIndex, viewIndex + 1);
+                j++;
+                viewIndex++;
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        int from = findFirstAtOrAfter(change.getFrom());
+        int to = findFirstAtOrAfter(change.getTo());
+        if (from == to) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(to - from);
+        for (int k = from; k < to; k++) {
+            int sourceIndex = change.getPermutation(filtered[k]);
+            // The source is already permuted, so the element that was at filtered[k] is now at sourceIndex
+            removed.add(getSource().get(sourceIndex));
+            filtered[k] = sourceIndex;
+        }
+        Arrays.sort(filtered, from, to);
+        nextReplace(from, to, removed);
+    }
+
+    private void update(ListChangeListener.Change<? extends E> change) {
+        List<? extends E> source = getSource();
+        for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+            E element = source.get(sourceIndex);
+            int k = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+            boolean isAccepted = predicate.test(element);
+            if (k >= 0 && isAccepted) {
+                nextUpdate(k);
+            } else if (k >= 0) {
+                System.arraycopy(filtered, k + 1, filtered, k, size - k - 1);
+                size--;
+                nextRemove(k, element);
+            } else if (isAccepted) {
+                int insertAt = -k - 1;
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, insertAt, filtered, insertAt + 1, size - insertAt);
+                filtered[insertAt] = sourceIndex;
+                size++;
+                nextAdd(insertAt, insertAt + 1);
+            }
+        }
+    }
+
+    private void addRemove(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+        int start = findFirstAtOrAfter(from);
+        int end = findFirstAtOrAfter(from + removedSize);
+
+        List<E> removed = new ArrayList<>(end - start);
+        for (int k = start; k < end; k++) {
+            removed.add(change.getRemoved().get(filtered[k] - from));
+        }
+
+        List<? extends E> source = getSource();
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int sourceIndex = from; sourceIndex < from + addedSize; sourceIndex++) {
+            if (predicate.test(source.get(sourceIndex))) {
+                added[addedCount++] = sourceIndex;
+            }
+        }
+
+        int newSize = size - (end - start) + addedCount;
+        int[] updated = new int[Math.max(newSize, filtered.length)];
+        System.arraycopy(filtered, 0, updated, 0, start);
+        System.arraycopy(added, 0, updated, start, addedCount);
+        int shift = addedSize - removedSize;
+        for (int k = end; k < size; k++) {
+            updated[start + addedCount + k - end] = filtered[k] + shift;
+        }
+        filtered = updated;
+        size = newSize;
+
+        if (!removed.isEmpty()) {
+            nextRemove(start, removed);
+        }
+        if (addedCount > 0) {
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    /**
+     * Returns the position in this list of the first element at or after {@code sourceIndex} in the source list.
+     */
+    private int findFirstAtOrAfter(int sourceIndex) {
+        int k = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return k >= 0 ? k : -k - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (filtered.length < capacity) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 3 / 2 + 1));
+        }
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return Arrays.binarySearch(filtered, 0, size, index);
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
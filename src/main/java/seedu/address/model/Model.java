@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.property.Property;
 
 /**
@@ -55,6 +58,27 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the address book, which increases with every change to it.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns true if the address book changed since it was last marked saved.
+     */
+    boolean isAddressBookDirty();
+
+    /**
+     * Marks the address book as saved as of {@code version}, as returned by {@link #getAddressBookVersion()}. The
+     * address book stays dirty if it changed since that version.
+     */
+    void markAddressBookSaved(long version);
+
+    /**
+     * Marks the address book as dirty, so that it is saved again, as after a failed save.
+     */
+    void markAddressBookDirty();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -82,6 +106,26 @@ public interface Model {
      */
     void updatePropertyInAllPersons(Property oldProperty, Property newProperty);
 
+    /**
+     * Returns the persons in the address book with the given {@code email}, regardless of the current filter.
+     */
+    List<Person> getPersonsWithEmail(Email email);
+
+    /**
+     * Returns the persons in the address book with the given {@code phone}, regardless of the current filter.
+     */
+    List<Person> getPersonsWithPhone(Phone phone);
+
+    /**
+     * Returns the persons in the address book that own {@code property}.
+     */
+    List<Person> getOwnersOf(Property property);
+
+    /**
+     * Returns the persons in the address book that are interested in {@code property}.
+     */
+    List<Person> getPersonsInterestedIn(Property property);
+
     /**
      * Deletes the given property.
      * The property must exist in the address book.
@@ -118,7 +162,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /** Returns the predicate the filtered person list was last updated with. */
+    Predicate<Person> getFilteredPersonPredicate();
+
     ObservableList<Property> getFilteredPropertyList();
 
     void updateFilteredPropertyList(Predicate<Property> predicate);
+
+    /** Returns the predicate the filtered property list was last updated with. */
+    Predicate<Property> getFilteredPropertyPredicate();
 }
@@ -4,15 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.property.PriceRangePredicate;
 import seedu.address.model.property.Property;
 
 /**
@@ -23,9 +31,11 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Property> filteredProperties;
-
+    private final IncrementalFilteredList<Person> filteredPersons;
+    private final IncrementalFilteredList<Property> filteredProperties;
+    private Predicate<Person> personPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    private Predicate<Property> propertyPredicate = PREDICATE_SHOW_ALL_PROPERTIES;
+    private long savedVersion;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,8 +47,10 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredProperties = new FilteredList<>(this.addressBook.getPropertyList());
+        filteredPersons = new IncrementalFilteredList<>(this.addressBook.getPersonList());
+        filteredProperties = new IncrementalFilteredList<>(this.addressBook.getPropertyList());
+        // The address book is given as loaded from, or about to be written to, the data file
+        savedVersion = this.addressBook.getVersion();
     }
 
     public ModelManager() {
@@ -87,6 +99,26 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public boolean isAddressBookDirty() {
+        return addressBook.getVersion() != savedVersion;
+    }
+
+    @Override
+    public void markAddressBookSaved(long version) {
+        savedVersion = version;
+    }
+
+    @Override
+    public void markAddressBookDirty() {
+        savedVersion = -1; // versions start at 0, so this matches none
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
@@ -124,23 +156,17 @@ public class ModelManager implements Model {
     public void removePropertyFromAllPersons(Property propertyToDelete) {
         requireNonNull(propertyToDelete);
 
-        List<Person> allPersons = addressBook.getPersonList();
-        for (Person person : allPersons) {
-            boolean changed = false;
-
-            if (person.getOwnedProperties().contains(propertyToDelete)) {
-                person.removeOwnedProperty(propertyToDelete);
-                changed = true;
+        for (Person person : personsLinkedTo(propertyToDelete)) {
+            Person updatedPerson = person;
+            if (updatedPerson.getOwnedProperties().contains(propertyToDelete)) {
+                updatedPerson = updatedPerson.removeOwnedProperty(propertyToDelete);
             }
 
-            if (person.getInterestedProperties().contains(propertyToDelete)) {
-                person.removeInterestedProperty(propertyToDelete);
-                changed = true;
+            if (updatedPerson.getInterestedProperties().contains(propertyToDelete)) {
+                updatedPerson = updatedPerson.removeInterestedProperty(propertyToDelete);
             }
 
-            if (changed) {
-                addressBook.setPerson(person, person);
-            }
+            addressBook.setPerson(person, updatedPerson);
         }
     }
 
@@ -177,7 +203,58 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        Predicate<Person> previous = personPredicate;
+        personPredicate = predicate;
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            refilter(filteredPersons, previous, predicate, indexed(predicate, addressBook.findPersonsByName(keywords)));
+            return;
+        }
+        if (predicate instanceof TagContainsKeywordsPredicate) {
+            List<String> keywords = ((TagContainsKeywordsPredicate) predicate).getKeywords();
+            refilter(filteredPersons, previous, predicate, indexed(predicate,
+                    addressBook.findPersonsWithAnyTag(keywords)));
+            return;
+        }
+        refilter(filteredPersons, previous, predicate, predicate);
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonPredicate() {
+        return personPredicate;
+    }
+
+    /**
+     * Filters {@code list} by {@code effective}, which accepts the same items as {@code predicate}. When
+     * {@code predicate} is known to accept fewer or more items than {@code previous}, the predicate it replaces, only
+     * the items it can remove or add are tested.
+     */
+    private static <T> void refilter(IncrementalFilteredList<T> list, Predicate<T> previous, Predicate<T> predicate,
+                                     Predicate<T> effective) {
+        if (isNarrower(predicate, previous)) {
+            list.narrowPredicate(effective);
+        } else if (isNarrower(previous, predicate)) {
+            list.widenPredicate(effective);
+        } else {
+            list.setPredicate(effective);
+        }
+    }
+
+    private static boolean isNarrower(Predicate<?> predicate, Predicate<?> other) {
+        return other == PREDICATE_SHOW_ALL_PERSONS || other == PREDICATE_SHOW_ALL_PROPERTIES
+                || predicate instanceof RefinablePredicate && ((RefinablePredicate<?>) predicate).isNarrowerThan(other);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers from {@code matches}, the items an index found
+     * {@code predicate} to accept in the address book as it is now. Once the address book has changed, items not in
+     * {@code matches} may have been added or edited since, so they are tested with {@code predicate} itself. The
+     * address book counts a change before the filtered lists see it, as it listens to its lists first.
+     */
+    private <T> Predicate<T> indexed(Predicate<T> predicate, Set<T> matches) {
+        long lookupVersion = addressBook.getVersion();
+        return item -> matches.contains(item)
+                || (addressBook.getVersion() != lookupVersion && predicate.test(item));
     }
 
     @Override
@@ -188,23 +265,38 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         requireNonNull(predicate);
-        filteredProperties.setPredicate(predicate);
+        Predicate<Property> previous = propertyPredicate;
+        propertyPredicate = predicate;
+        if (predicate instanceof PriceRangePredicate) {
+            PriceRangePredicate range = (PriceRangePredicate) predicate;
+            Set<Property> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            addressBook.getPropertiesInPriceRange(range.getMinPrice(), range.getMaxPrice()).stream()
+                    .filter(property -> range.getNamePredicate().map(name -> name.test(property)).orElse(true))
+                    .forEach(matches::add);
+            refilter(filteredProperties, previous, predicate, indexed(predicate, matches));
+            return;
+        }
+        refilter(filteredProperties, previous, predicate, predicate);
+    }
+
+    @Override
+    public Predicate<Property> getFilteredPropertyPredicate() {
+        return propertyPredicate;
     }
 
     @Override
     public void updatePropertyInAllPersons(Property oldProperty, Property newProperty) {
         requireAllNonNull(oldProperty, newProperty);
 
-        List<Person> allPersons = addressBook.getPersonList();
-        for (Person person : allPersons) {
+        for (Person person : personsLinkedTo(oldProperty)) {
             boolean hasOwnedProperty = person.getOwnedProperties().contains(oldProperty);
             boolean hasInterestedProperty = person.getInterestedProperties().contains(oldProperty);
 
             if (hasOwnedProperty || hasInterestedProperty) {
                 List<Property> updatedOwnedProperties =
-                        new java.util.ArrayList<>(person.getOwnedProperties());
+                        new ArrayList<>(person.getOwnedProperties());
                 List<Property> updatedInterestedProperties =
-                        new java.util.ArrayList<>(person.getInterestedProperties());
+                        new ArrayList<>(person.getInterestedProperties());
 
                 if (hasOwnedProperty) {
                     int index = updatedOwnedProperties.indexOf(oldProperty);
@@ -231,6 +323,35 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public List<Person> getPersonsWithEmail(Email email) {
+        return addressBook.getPersonsWithEmail(email);
+    }
+
+    @Override
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        return addressBook.getPersonsWithPhone(phone);
+    }
+
+    @Override
+    public List<Person> getOwnersOf(Property property) {
+        return addressBook.getOwnersOf(property);
+    }
+
+    @Override
+    public List<Person> getPersonsInterestedIn(Property property) {
+        return addressBook.getPersonsInterestedIn(property);
+    }
+
+    /**
+     * Returns every person that owns or is interested in {@code property}, each listed once.
+     */
+    private List<Person> personsLinkedTo(Property property) {
+        Set<Person> linked = Collections.newSetFromMap(new IdentityHashMap<>());
+        linked.addAll(addressBook.getOwnersOf(property));
+        linked.addAll(addressBook.getPersonsInterestedIn(property));
+        return new ArrayList<>(linked);
+    }
 
     @Override
     public boolean equals(Object other) {
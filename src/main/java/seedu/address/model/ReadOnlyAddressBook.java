@@ -1,8 +1,11 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
 
 /**
  * Unmodifiable view of an address book
@@ -17,4 +20,25 @@ public interface ReadOnlyAddressBook {
 
     ObservableList<Property> getPropertyList();
 
+    /**
+     * Returns the property whose name is exactly {@code name}, if any.
+     */
+    default Optional<Property> getPropertyByName(String name) {
+        return getPropertyList().stream()
+                .filter(property -> property.getPropertyName().fullName.equals(name))
+                .findFirst();
+    }
+
+    /**
+     * Returns the first property whose name matches {@code name} ignoring case and whitespace differences, if any.
+     *
+     * @see PropertyName#canonicalLoose(String)
+     */
+    default Optional<Property> getPropertyByNameIgnoreCase(String name) {
+        String target = PropertyName.canonicalLoose(name);
+        return getPropertyList().stream()
+                .filter(property -> PropertyName.canonicalLoose(property.getPropertyName().fullName).equals(target))
+                .findFirst();
+    }
+
 }
@@ -0,0 +1,16 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate that can tell when it accepts only items another predicate accepts, so that a filtered list changing
+ * between the two only has to test the items one of them accepts.
+ */
+public interface RefinablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if every item this predicate accepts is known to be accepted by {@code other} too. Returning false
+     * only means that it is not known.
+     */
+    boolean isNarrowerThan(Predicate<?> other);
+}
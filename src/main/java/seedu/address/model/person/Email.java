@@ -50,9 +50,62 @@ public class Email {
 
     /**
      * Returns true if a given string is a valid email.
+     * <p>
+     * This accepts exactly the strings matched by {@link #VALIDATION_REGEX}, but scans each character once instead of
+     * running the regex, whose nested repetitions make the regex engine backtrack exponentially on long inputs that
+     * almost match.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        return at != -1 && isValidLocalPart(test, 0, at) && isValidDomain(test, at + 1, test.length());
+    }
+
+    /**
+     * Returns true if {@code test[from, to)} is alphanumeric runs separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int from, int to) {
+        boolean previousIsAlphanumeric = false;
+        for (int i = from; i < to; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                previousIsAlphanumeric = true;
+            } else if (previousIsAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) != -1) {
+                previousIsAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return previousIsAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code test[from, to)} is period-separated labels, each being alphanumeric runs separated by
+     * single hyphens, with the last label also containing two adjacent alphanumeric characters.
+     */
+    private static boolean isValidDomain(String test, int from, int to) {
+        char previous = '.';
+        boolean lastLabelHasAdjacentAlphanumerics = false;
+        for (int i = from; i < to; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                lastLabelHasAdjacentAlphanumerics |= isAlphanumeric(previous);
+            } else if ((c == '-' || c == '.') && isAlphanumeric(previous)) {
+                if (c == '.') {
+                    lastLabelHasAdjacentAlphanumerics = false;
+                }
+            } else {
+                return false;
+            }
+            previous = c;
+        }
+        return isAlphanumeric(previous) && lastLabelHasAdjacentAlphanumerics;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, the characters matched by {@code [^\W_]}.
+     */
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{L}\\p{N}][\\p{L}\\p{N}@\\-, ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
     /**
@@ -36,7 +40,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) & test.length() <= 50;
+        return test.length() <= 50 && VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -5,22 +5,43 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements RefinablePredicate<Person> {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)
-                        || person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()));
+        return keywords.stream().anyMatch(keyword -> matchesKeyword(person.getName().fullName, keyword));
+    }
+
+    /**
+     * Returns true if {@code other} is a name predicate and each keyword of this predicate contains one of its
+     * keywords, as a name containing the keyword then contains that one too.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<?> other) {
+        return other instanceof NameContainsKeywordsPredicate
+                && StringUtil.eachContainsAnyIgnoreCase(keywords, ((NameContainsKeywordsPredicate) other).keywords);
+    }
+
+    /**
+     * Returns true if {@code fullName} contains {@code keyword} as a whole word or as a substring, ignoring case.
+     */
+    static boolean matchesKeyword(String fullName, String keyword) {
+        return StringUtil.containsWordIgnoreCase(fullName, keyword)
+                || fullName.toLowerCase().contains(keyword.toLowerCase());
     }
 
     @Override
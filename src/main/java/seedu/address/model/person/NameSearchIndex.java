@@ -0,0 +1,144 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index over person names, answering the same queries as {@link NameContainsKeywordsPredicate} without
+ * evaluating every person.
+ * <p>
+ * Every distinct substring of up to {@value #GRAM_LENGTH} characters of a lower-cased name is posted, so a keyword of
+ * up to that length is answered by a single posting list and a longer keyword by intersecting the postings of its
+ * grams. Whole words of a name are also posted, case-folded, for the whole-word half of the predicate. Candidates
+ * found this way are then confirmed with {@link NameContainsKeywordsPredicate#matchesKeyword(String, String)}, so the
+ * result is exactly the set of persons the predicate accepts.
+ */
+class NameSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> gramPostings = new HashMap<>();
+    private final Map<String, Set<Person>> wordPostings = new HashMap<>();
+
+    /**
+     * Posts the name of {@code person}.
+     */
+    void index(Person person) {
+        String name = person.getName().fullName;
+        gramsOf(name.toLowerCase()).forEach(gram -> post(gramPostings, gram, person));
+        wordsOf(name).forEach(word -> post(wordPostings, word, person));
+    }
+
+    /**
+     * Removes the postings of {@code person}.
+     */
+    void unindex(Person person) {
+        String name = person.getName().fullName;
+        gramsOf(name.toLowerCase()).forEach(gram -> unpost(gramPostings, gram, person));
+        wordsOf(name).forEach(word -> unpost(wordPostings, word, person));
+    }
+
+    /**
+     * Re-posts every person in {@code persons}, discarding all existing postings.
+     */
+    void rebuild(List<Person> persons) {
+        gramPostings.clear();
+        wordPostings.clear();
+        persons.forEach(this::index);
+    }
+
+    /**
+     * Returns the indexed persons whose name matches any of {@code keywords}, as a set compared by reference.
+     */
+    Set<Person> find(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            for (Person candidate : candidatesFor(keyword)) {
+                if (!matches.contains(candidate)
+                        && NameContainsKeywordsPredicate.matchesKeyword(candidate.getName().fullName, keyword)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a superset of the persons whose name matches {@code keyword}.
+     */
+    private Set<Person> candidatesFor(String keyword) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        String lowerKeyword = keyword.toLowerCase();
+        if (lowerKeyword.isEmpty()) {
+            gramPostings.values().forEach(candidates::addAll);
+        } else if (lowerKeyword.length() <= GRAM_LENGTH) {
+            candidates.addAll(gramPostings.getOrDefault(lowerKeyword, Set.of()));
+        } else {
+            candidates.addAll(intersectGramPostings(lowerKeyword));
+        }
+        candidates.addAll(wordPostings.getOrDefault(UniquePersonList.foldCase(keyword.trim()), Set.of()));
+        return candidates;
+    }
+
+    private Set<Person> intersectGramPostings(String lowerKeyword) {
+        List<Set<Person>> postings = new ArrayList<>();
+        for (int start = 0; start + GRAM_LENGTH <= lowerKeyword.length(); start++) {
+            Set<Person> posting = gramPostings.get(lowerKeyword.substring(start, start + GRAM_LENGTH));
+            if (posting == null) {
+                return Set.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Person> intersection = Collections.newSetFromMap(new IdentityHashMap<>());
+        intersection.addAll(postings.get(0));
+        for (int i = 1; i < postings.size() && !intersection.isEmpty(); i++) {
+            intersection.retainAll(postings.get(i));
+        }
+        return intersection;
+    }
+
+    private static Set<String> gramsOf(String lowerName) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < lowerName.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, lowerName.length()); end++) {
+                grams.add(lowerName.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> wordsOf(String name) {
+        Set<String> words = new HashSet<>();
+        for (String word : name.split("\\s+")) {
+            words.add(UniquePersonList.foldCase(word));
+        }
+        return words;
+    }
+
+    private static void post(Map<String, Set<Person>> postings, String key, Person person) {
+        postings.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+    }
+
+    private static void unpost(Map<String, Set<Person>> postings, String key, Person person) {
+        Set<Person> posting = postings.get(key);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(person);
+        if (posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+}
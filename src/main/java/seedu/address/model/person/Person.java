@@ -17,7 +17,9 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a person in the address book.
  * <p>
- * The person is immutable from the outside: clients obtain read-only views of tags and owned properties.
+ * The person is immutable: clients obtain read-only views of tags and properties, and a change of its properties
+ * makes a new person. Persons in the model may be shown on another thread while commands execute, so their lists
+ * must never change.
  * Owned properties are stored in a {@link UniquePropertyList} and exposed as an unmodifiable {@link ObservableList}.
  * Interested properties are kept as an internal list and exposed as an unmodifiable {@link List}.
  */
@@ -233,38 +235,45 @@ public class Person {
     }
 
     /**
-     * Adds a property to the person's interested properties list.
+     * Returns a copy of this person with {@code property} added to the interested properties. This person is not
+     * changed, as it may be shown on another thread.
      */
-    public void setInterestedProperty(Property interestedProperty) {
-        interestedProperties.add(interestedProperty);
+    public Person withInterestedProperty(Property property) {
+        List<Property> updatedInterestedProperties = new ArrayList<>(this.getInterestedProperties());
+        updatedInterestedProperties.add(property);
+        return new Person(this.getName(), this.getPhone(), this.getEmail(), this.getAddress(),
+                this.getTags(), this.getOwnedProperties(), updatedInterestedProperties);
     }
 
     /**
-     * Removes a property from the person's owned properties.
+     * Returns a copy of this person with {@code property} added to the owned properties. This person is not changed.
+     */
+    public Person withOwnedProperty(Property property) {
+        List<Property> updatedOwnedProperties = new ArrayList<>(this.getOwnedProperties());
+        updatedOwnedProperties.add(property);
+        return new Person(this.getName(), this.getPhone(), this.getEmail(), this.getAddress(),
+                this.getTags(), updatedOwnedProperties, this.getInterestedProperties());
+    }
+
+    /**
+     * Removes a property from the person's owned properties. This person is not changed.
      * @return a new {@code Person} instance with the updated owned properties list
      */
     public Person removeOwnedProperty(Property property) {
         List<Property> updatedOwnedProperties = new ArrayList<>(this.getOwnedProperties());
-        ownedProperties.remove(property);
         updatedOwnedProperties.remove(property);
         return new Person(this.getName(), this.getPhone(), this.getEmail(), this.getAddress(),
                 this.getTags(), updatedOwnedProperties, this.getInterestedProperties());
     }
 
-
     /**
-     * Removes a property from the person's interested properties.
+     * Removes a property from the person's interested properties. This person is not changed.
      * @return a new Person instance with the updated interested properties list
      */
     public Person removeInterestedProperty(Property property) {
         List<Property> updatedInterestedProperties = new ArrayList<>(this.getInterestedProperties());
-        interestedProperties.remove(property);
         updatedInterestedProperties.remove(property);
         return new Person(this.getName(), this.getPhone(), this.getEmail(), this.getAddress(),
                 this.getTags(), this.getOwnedProperties(), updatedInterestedProperties);
     }
-
-    public void setOwnedProperty(Property ownedProperty) {
-        ownedProperties.add(ownedProperty);
-    }
 }
@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hash index from a natural key of a person (e.g. its email) to the persons having that key.
+ * <p>
+ * Keys need not be unique, so each key maps to the persons sharing it, in the order they were indexed. Persons are
+ * matched by reference when unindexed, since several equal persons may share a key.
+ *
+ * @param <K> type of the key
+ */
+class PersonKeyIndex<K> {
+
+    private final Function<Person, K> keyExtractor;
+    private final Map<K, List<Person>> buckets = new HashMap<>();
+
+    PersonKeyIndex(Function<Person, K> keyExtractor) {
+        this.keyExtractor = requireNonNull(keyExtractor);
+    }
+
+    /**
+     * Adds {@code person} under its key.
+     */
+    void index(Person person) {
+        buckets.computeIfAbsent(keyExtractor.apply(person), unused -> new ArrayList<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from under its key.
+     */
+    void unindex(Person person) {
+        K key = keyExtractor.apply(person);
+        List<Person> bucket = buckets.get(key);
+        int position = bucket == null ? -1 : positionOf(bucket, person);
+        if (position == -1) {
+            return;
+        }
+        bucket.remove(position);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement}, keeping its place among persons with the same key if the key
+     * did not change.
+     */
+    void replace(Person target, Person replacement) {
+        K key = keyExtractor.apply(target);
+        List<Person> bucket = buckets.get(key);
+        int position = bucket == null ? -1 : positionOf(bucket, target);
+        if (position != -1 && key.equals(keyExtractor.apply(replacement))) {
+            bucket.set(position, replacement);
+            return;
+        }
+        unindex(target);
+        index(replacement);
+    }
+
+    /**
+     * Re-indexes every person in {@code persons}, discarding all existing entries.
+     */
+    void rebuild(List<Person> persons) {
+        buckets.clear();
+        persons.forEach(this::index);
+    }
+
+    /**
+     * Returns the persons having {@code key}, in the order they were indexed.
+     */
+    List<Person> get(K key) {
+        requireNonNull(key);
+        return Collections.unmodifiableList(new ArrayList<>(buckets.getOrDefault(key, List.of())));
+    }
+
+    private static int positionOf(List<Person> bucket, Person person) {
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
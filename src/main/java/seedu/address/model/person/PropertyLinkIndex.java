@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.property.Property;
+
+/**
+ * Reverse index from each {@code Property} to the persons that own it or are interested in it.
+ * <p>
+ * Persons are tracked by reference, since {@code Person#equals} ignores property links and a person's property lists
+ * may be changed in place before it is re-set in the list. For the same reason, the links recorded when a person is
+ * indexed are kept, so that unindexing removes exactly what was added even if the person has since been mutated.
+ */
+class PropertyLinkIndex {
+
+    private final Map<Property, List<Person>> owners = new HashMap<>();
+    private final Map<Property, List<Person>> interested = new HashMap<>();
+    private final Map<Person, RecordedLinks> recordedLinks = new IdentityHashMap<>();
+
+    /**
+     * Records the owned and interested properties of {@code person}.
+     */
+    void index(Person person) {
+        requireNonNull(person);
+        RecordedLinks links = new RecordedLinks(List.copyOf(person.getOwnedProperties()),
+                List.copyOf(person.getInterestedProperties()));
+        recordedLinks.put(person, links);
+        links.owned.forEach(property -> owners.computeIfAbsent(property, unused -> new ArrayList<>()).add(person));
+        links.interested.forEach(property ->
+                interested.computeIfAbsent(property, unused -> new ArrayList<>()).add(person));
+    }
+
+    /**
+     * Removes the links recorded for {@code person} when it was last indexed.
+     */
+    void unindex(Person person) {
+        requireNonNull(person);
+        RecordedLinks links = recordedLinks.remove(person);
+        if (links == null) {
+            return;
+        }
+        links.owned.forEach(property -> removeLink(owners, property, person));
+        links.interested.forEach(property -> removeLink(interested, property, person));
+    }
+
+    /**
+     * Re-indexes every person in {@code persons}, discarding all existing links.
+     */
+    void rebuild(List<Person> persons) {
+        owners.clear();
+        interested.clear();
+        recordedLinks.clear();
+        persons.forEach(this::index);
+    }
+
+    /**
+     * Returns the persons that own {@code property}, in the order they were linked.
+     */
+    List<Person> getOwners(Property property) {
+        requireNonNull(property);
+        return Collections.unmodifiableList(new ArrayList<>(owners.getOrDefault(property, List.of())));
+    }
+
+    /**
+     * Returns the persons interested in {@code property}, in the order they were linked.
+     */
+    List<Person> getInterested(Property property) {
+        requireNonNull(property);
+        return Collections.unmodifiableList(new ArrayList<>(interested.getOrDefault(property, List.of())));
+    }
+
+    private static void removeLink(Map<Property, List<Person>> links, Property property, Person person) {
+        List<Person> persons = links.get(property);
+        if (persons == null) {
+            return;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                persons.remove(i);
+                break;
+            }
+        }
+        if (persons.isEmpty()) {
+            links.remove(property);
+        }
+    }
+
+    /**
+     * The property links of a person at the time it was indexed.
+     */
+    private static class RecordedLinks {
+        private final List<Property> owned;
+        private final List<Property> interested;
+
+        RecordedLinks(List<Property> owned, List<Property> interested) {
+            this.owned = owned;
+            this.interested = interested;
+        }
+    }
+}
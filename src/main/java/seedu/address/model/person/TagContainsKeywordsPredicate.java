@@ -5,17 +5,22 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements RefinablePredicate<Person> {
     private final List<String> keywords;
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
@@ -24,6 +29,19 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
                 );
     }
 
+    /**
+     * Returns true if {@code other} is a tag predicate with every keyword of this predicate, ignoring case, as tags
+     * are single words that only match a keyword in full.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<?> other) {
+        if (!(other instanceof TagContainsKeywordsPredicate)) {
+            return false;
+        }
+        List<String> otherKeywords = ((TagContainsKeywordsPredicate) other).keywords;
+        return keywords.stream().allMatch(keyword -> otherKeywords.stream().anyMatch(keyword::equalsIgnoreCase));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,177 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Dictionary of the tags in use, with a bitmap per tag of the persons carrying it.
+ * <p>
+ * Each distinct tag name, compared ignoring case as {@link TagContainsKeywordsPredicate} does, is given an integer id
+ * on first use. Each person occupies a slot, and the bitmap of a tag has the bit of a slot set if the person in that
+ * slot has the tag. Slots rather than list positions are used so that removing a person does not shift every bitmap;
+ * freed slots are reused. Tag queries then become bitwise operations over the bitmaps, and per-tag counts are kept
+ * alongside them.
+ */
+class TagIndex {
+
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<long[]> bitmaps = new ArrayList<>();
+    private final List<Integer> counts = new ArrayList<>();
+
+    private final List<Person> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Person, Integer> slotOf = new IdentityHashMap<>();
+
+    /**
+     * Gives {@code person} a slot and sets its bit in the bitmap of each of its tags.
+     */
+    void index(Person person) {
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+        if (slot == slots.size()) {
+            slots.add(person);
+        } else {
+            slots.set(slot, person);
+        }
+        slotOf.put(person, slot);
+
+        for (Tag tag : person.getTags()) {
+            int id = tagIds.computeIfAbsent(keyOf(tag.tagName), unused -> newTagId());
+            long[] bitmap = bitmaps.get(id);
+            if (wordOf(slot) >= bitmap.length) {
+                bitmap = Arrays.copyOf(bitmap, Math.max(wordOf(slot) + 1, bitmap.length * 2));
+                bitmaps.set(id, bitmap);
+            }
+            if ((bitmap[wordOf(slot)] & bitOf(slot)) == 0) {
+                bitmap[wordOf(slot)] |= bitOf(slot);
+                counts.set(id, counts.get(id) + 1);
+            }
+        }
+    }
+
+    /**
+     * Clears the bits of {@code person} and frees its slot.
+     */
+    void unindex(Person person) {
+        Integer slot = slotOf.remove(person);
+        if (slot == null) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            Integer id = tagIds.get(keyOf(tag.tagName));
+            long[] bitmap = bitmaps.get(id);
+            if ((bitmap[wordOf(slot)] & bitOf(slot)) != 0) {
+                bitmap[wordOf(slot)] &= ~bitOf(slot);
+                counts.set(id, counts.get(id) - 1);
+            }
+        }
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Re-indexes every person in {@code persons}, discarding all existing entries and tag ids.
+     */
+    void rebuild(List<Person> persons) {
+        tagIds.clear();
+        bitmaps.clear();
+        counts.clear();
+        slots.clear();
+        freeSlots.clear();
+        slotOf.clear();
+        persons.forEach(this::index);
+    }
+
+    /**
+     * Returns the persons having a tag matching any of {@code tagNames}, as a set compared by reference.
+     */
+    Set<Person> findAny(List<String> tagNames) {
+        requireNonNull(tagNames);
+        long[] union = new long[wordOf(slots.size()) + 1];
+        for (String tagName : tagNames) {
+            long[] bitmap = bitmapOf(tagName);
+            for (int i = 0; i < bitmap.length; i++) {
+                union[i] |= bitmap[i];
+            }
+        }
+        return personsIn(union);
+    }
+
+    /**
+     * Returns the persons having tags matching every one of {@code tagNames}, as a set compared by reference.
+     * No persons are returned if {@code tagNames} is empty.
+     */
+    Set<Person> findAll(List<String> tagNames) {
+        requireNonNull(tagNames);
+        if (tagNames.isEmpty()) {
+            return personsIn(new long[0]);
+        }
+        long[] intersection = null;
+        for (String tagName : tagNames) {
+            long[] bitmap = bitmapOf(tagName);
+            if (intersection == null) {
+                intersection = Arrays.copyOf(bitmap, bitmap.length);
+                continue;
+            }
+            for (int i = 0; i < intersection.length; i++) {
+                intersection[i] &= i < bitmap.length ? bitmap[i] : 0;
+            }
+        }
+        return personsIn(intersection);
+    }
+
+    /**
+     * Returns the number of persons having a tag matching {@code tagName}.
+     */
+    int count(String tagName) {
+        requireNonNull(tagName);
+        Integer id = tagIds.get(keyOf(tagName));
+        return id == null ? 0 : counts.get(id);
+    }
+
+    private int newTagId() {
+        bitmaps.add(new long[wordOf(slots.size()) + 1]);
+        counts.add(0);
+        return bitmaps.size() - 1;
+    }
+
+    private long[] bitmapOf(String tagName) {
+        Integer id = tagIds.get(keyOf(tagName));
+        return id == null ? new long[0] : bitmaps.get(id);
+    }
+
+    private Set<Person> personsIn(long[] bitmap) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int word = 0; word < bitmap.length; word++) {
+            long bits = bitmap[word];
+            while (bits != 0) {
+                persons.add(slots.get(word * Long.SIZE + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return persons;
+    }
+
+    private static String keyOf(String tagName) {
+        return UniquePersonList.foldCase(tagName.trim());
+    }
+
+    private static int wordOf(int slot) {
+        return slot / Long.SIZE;
+    }
+
+    private static long bitOf(int slot) {
+        return 1L << (slot % Long.SIZE);
+    }
+}
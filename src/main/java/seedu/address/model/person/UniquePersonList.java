@@ -3,13 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.property.Property;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +23,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are served by a hash index keyed on the case-folded identity fields, which is kept in sync
+ * with the backing list by every mutating operation, so that duplicate checks do not need to scan the list.
+ * A second index maps each property to the persons that own it or are interested in it, so that the persons affected
+ * by a change to one property can be found without scanning every person, and further indexes on email and phone
+ * let a person be resolved by either natural key directly. Names are also kept in an inverted index so that name
+ * searches only examine persons sharing parts of the name searched for, and tags in a dictionary of per-tag bitmaps
+ * so that tag searches and counts are bitwise operations.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +40,19 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<List<String>, Person> identityIndex = new HashMap<>();
+    private final PropertyLinkIndex propertyLinks = new PropertyLinkIndex();
+    private final PersonKeyIndex<Email> emailIndex = new PersonKeyIndex<>(Person::getEmail);
+    private final PersonKeyIndex<Phone> phoneIndex = new PersonKeyIndex<>(Person::getPhone);
+    private final NameSearchIndex nameSearchIndex = new NameSearchIndex();
+    private final TagIndex tagIndex = new TagIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(identityKeyOf(toCheck));
     }
 
     /**
@@ -46,6 +65,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(identityKeyOf(toAdd), toAdd);
+        propertyLinks.index(toAdd);
+        emailIndex.index(toAdd);
+        phoneIndex.index(toAdd);
+        nameSearchIndex.index(toAdd);
+        tagIndex.index(toAdd);
     }
 
     /**
@@ -65,7 +90,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        identityIndex.remove(identityKeyOf(target));
+        identityIndex.put(identityKeyOf(editedPerson), editedPerson);
+        propertyLinks.unindex(replaced);
+        propertyLinks.index(editedPerson);
+        emailIndex.replace(replaced, editedPerson);
+        phoneIndex.replace(replaced, editedPerson);
+        nameSearchIndex.unindex(replaced);
+        nameSearchIndex.index(editedPerson);
+        tagIndex.unindex(replaced);
+        tagIndex.index(editedPerson);
     }
 
     /**
@@ -74,14 +109,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        identityIndex.remove(identityKeyOf(toRemove));
+        propertyLinks.unindex(removed);
+        emailIndex.unindex(removed);
+        phoneIndex.unindex(removed);
+        nameSearchIndex.unindex(removed);
+        tagIndex.unindex(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        rebuildKeyIndexes();
     }
 
     /**
@@ -90,11 +136,94 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Integer, Integer> duplicates = findDuplicates(persons);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates.keySet());
         }
 
         internalList.setAll(persons);
+        rebuildIdentityIndex();
+        rebuildKeyIndexes();
+    }
+
+    /**
+     * Finds every entry of {@code persons} that has the same identity as an earlier entry, in a single hash-based pass.
+     * Earlier entries win, so the entries not reported form a list of unique persons.
+     *
+     * @param persons the persons to check; must not contain nulls
+     * @return the zero-based positions of the duplicate entries, in ascending order, each mapped to the position of
+     *         the earlier entry it duplicates; empty if all persons are unique
+     */
+    public static Map<Integer, Integer> findDuplicates(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<List<String>, Integer> firstPositions = new HashMap<>();
+        Map<Integer, Integer> duplicates = new LinkedHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Integer firstPosition = firstPositions.putIfAbsent(identityKeyOf(persons.get(i)), i);
+            if (firstPosition != null) {
+                duplicates.put(i, firstPosition);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Returns the persons in this list that own {@code property}.
+     */
+    public List<Person> getOwnersOf(Property property) {
+        return propertyLinks.getOwners(property);
+    }
+
+    /**
+     * Returns the persons in this list that are interested in {@code property}.
+     */
+    public List<Person> getPersonsInterestedIn(Property property) {
+        return propertyLinks.getInterested(property);
+    }
+
+    /**
+     * Returns the persons in this list with the given {@code email}, in the order they were added.
+     */
+    public List<Person> getPersonsWithEmail(Email email) {
+        return emailIndex.get(email);
+    }
+
+    /**
+     * Returns the persons in this list with the given {@code phone}, in the order they were added.
+     */
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        return phoneIndex.get(phone);
+    }
+
+    /**
+     * Returns the persons in this list accepted by a {@link NameContainsKeywordsPredicate} with the given
+     * {@code keywords}, as a set compared by reference.
+     */
+    public Set<Person> findByName(List<String> keywords) {
+        return nameSearchIndex.find(keywords);
+    }
+
+    /**
+     * Returns the persons in this list having a tag matching any of {@code tagNames} ignoring case, as a set compared
+     * by reference. This is the set a {@link TagContainsKeywordsPredicate} with the same keywords accepts.
+     */
+    public Set<Person> findByAnyTag(List<String> tagNames) {
+        return tagIndex.findAny(tagNames);
+    }
+
+    /**
+     * Returns the persons in this list having tags matching all of {@code tagNames} ignoring case, as a set compared
+     * by reference.
+     */
+    public Set<Person> findByAllTags(List<String> tagNames) {
+        return tagIndex.findAll(tagNames);
+    }
+
+    /**
+     * Returns the number of persons in this list having a tag matching {@code tagName} ignoring case.
+     */
+    public int countWithTag(String tagName) {
+        return tagIndex.count(tagName);
     }
 
     /**
@@ -106,7 +235,8 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        // Iterating over the unmodifiable view prevents Iterator#remove from bypassing the identity index.
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -134,17 +264,37 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void rebuildKeyIndexes() {
+        propertyLinks.rebuild(internalList);
+        emailIndex.rebuild(internalList);
+        phoneIndex.rebuild(internalList);
+        nameSearchIndex.rebuild(internalList);
+        tagIndex.rebuild(internalList);
+    }
+
+    private void rebuildIdentityIndex() {
+        identityIndex.clear();
+        for (Person person : internalList) {
+            identityIndex.put(identityKeyOf(person), person);
+        }
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the key under which {@code person} is stored in the identity index.
+     * Two persons have equal keys if and only if {@link Person#isSamePerson(Person)} holds between them.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static List<String> identityKeyOf(Person person) {
+        return List.of(foldCase(person.getName().fullName), foldCase(person.getPhone().value),
+                foldCase(person.getEmail().value), foldCase(person.getAddress().value));
+    }
+
+    /**
+     * Folds every code point of {@code value} the same way {@link String#equalsIgnoreCase(String)} compares them,
+     * so that folded strings are equal exactly when the originals are equal ignoring case.
+     */
+    static String foldCase(String value) {
+        StringBuilder folded = new StringBuilder(value.length());
+        value.codePoints().forEach(cp -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp))));
+        return folded.toString();
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Property's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,8 +19,15 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern NON_ALPHANUMERIC_PATTERN = Pattern.compile("[^\\p{L}\\p{N}\\s]");
+    private static final Pattern WHITESPACE_RUN_PATTERN = Pattern.compile("\\s+");
+
     public final String value;
 
+    /** Loose canonical form of {@code value}, computed once as it is used for every identity comparison. */
+    private final String canonicalLooseValue;
+
     /**
      * Constructs an {@code Address}.
      *
@@ -28,13 +37,21 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        canonicalLooseValue = canonicalLoose(address);
     }
 
     /**
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the loose canonical form of this address, as produced by {@link #canonicalLoose(String)}.
+     */
+    public String getCanonicalLoose() {
+        return canonicalLooseValue;
     }
 
     @Override
@@ -71,9 +88,7 @@ public class Address {
         if (s == null) {
             return "";
         }
-        return s.toLowerCase()
-                .replaceAll("[^\\p{L}\\p{N}\\s]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+        String stripped = NON_ALPHANUMERIC_PATTERN.matcher(s.toLowerCase()).replaceAll("");
+        return WHITESPACE_RUN_PATTERN.matcher(stripped).replaceAll(" ").trim();
     }
 }
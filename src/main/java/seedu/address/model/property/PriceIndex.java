@@ -0,0 +1,118 @@
+package seedu.address.model.property;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Properties ordered by price, held as a sorted {@code int[]} of prices with a parallel array of the properties, so
+ * that the properties within a price range are found by binary search and returned as one slice.
+ * <p>
+ * Inserting or removing shifts the tail of both arrays, which is a primitive copy rather than a re-sort.
+ */
+class PriceIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private Property[] properties = new Property[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Inserts {@code property} after any properties with the same price.
+     */
+    void add(Property property) {
+        int price = priceOf(property);
+        int position = upperBound(price);
+        ensureCapacity(size + 1);
+        System.arraycopy(prices, position, prices, position + 1, size - position);
+        System.arraycopy(properties, position, properties, position + 1, size - position);
+        prices[position] = price;
+        properties[position] = property;
+        size++;
+    }
+
+    /**
+     * Removes one property equal to {@code property}, if there is one.
+     */
+    void remove(Property property) {
+        int price = priceOf(property);
+        for (int position = lowerBound(price); position < size && prices[position] == price; position++) {
+            if (properties[position].equals(property)) {
+                System.arraycopy(prices, position + 1, prices, position, size - position - 1);
+                System.arraycopy(properties, position + 1, properties, position, size - position - 1);
+                properties[--size] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code replacement}. Properties with the same price keep their order.
+     */
+    void rebuild(List<Property> replacement) {
+        int count = replacement.size();
+        // Packing the price above the list position sorts by price, then by position, without boxing.
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) priceOf(replacement.get(i)) << Integer.SIZE) | i;
+        }
+        Arrays.sort(keys);
+
+        prices = new int[Math.max(INITIAL_CAPACITY, count)];
+        properties = new Property[prices.length];
+        for (int i = 0; i < count; i++) {
+            prices[i] = (int) (keys[i] >>> Integer.SIZE);
+            properties[i] = replacement.get((int) keys[i]);
+        }
+        size = count;
+    }
+
+    /**
+     * Returns the properties priced from {@code minPrice} to {@code maxPrice} inclusive, in ascending order of price.
+     */
+    List<Property> inRange(int minPrice, int maxPrice) {
+        if (minPrice > maxPrice) {
+            return List.of();
+        }
+        int from = lowerBound(minPrice);
+        int to = maxPrice == Integer.MAX_VALUE ? size : lowerBound(maxPrice + 1);
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(properties, from, to)));
+    }
+
+    /**
+     * Returns the position of the first price not less than {@code price}.
+     */
+    private int lowerBound(int price) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first price greater than {@code price}.
+     */
+    private int upperBound(int price) {
+        return price == Integer.MAX_VALUE ? size : lowerBound(price + 1);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > prices.length) {
+            int newLength = Math.max(capacity, prices.length * 2);
+            prices = Arrays.copyOf(prices, newLength);
+            properties = Arrays.copyOf(properties, newLength);
+        }
+    }
+
+    private static int priceOf(Property property) {
+        return property.getPrice().price;
+    }
+}
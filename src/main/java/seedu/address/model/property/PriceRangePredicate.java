@@ -0,0 +1,114 @@
+package seedu.address.model.property;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
+
+/**
+ * Tests that a {@code Property}'s {@code Price} lies within a range, and optionally that its name matches keywords.
+ * Either bound may be left open.
+ */
+public class PriceRangePredicate implements RefinablePredicate<Property> {
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final PropertyNameContainsKeywordsPredicate namePredicate;
+
+    /**
+     * Creates a predicate accepting prices from {@code minPrice} to {@code maxPrice} inclusive.
+     *
+     * @param minPrice lowest accepted price, or null for no lower bound
+     * @param maxPrice highest accepted price, or null for no upper bound
+     */
+    public PriceRangePredicate(Integer minPrice, Integer maxPrice) {
+        this(minPrice, maxPrice, null);
+    }
+
+    /**
+     * Creates a predicate accepting prices from {@code minPrice} to {@code maxPrice} inclusive, for properties also
+     * accepted by {@code namePredicate}.
+     *
+     * @param minPrice lowest accepted price, or null for no lower bound
+     * @param maxPrice highest accepted price, or null for no upper bound
+     * @param namePredicate name condition to also apply, or null for none
+     */
+    public PriceRangePredicate(Integer minPrice, Integer maxPrice,
+                               PropertyNameContainsKeywordsPredicate namePredicate) {
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.namePredicate = namePredicate;
+    }
+
+    /**
+     * Returns the lowest accepted price, treating an open lower bound as the smallest integer.
+     */
+    public int getMinPrice() {
+        return minPrice == null ? Integer.MIN_VALUE : minPrice;
+    }
+
+    /**
+     * Returns the highest accepted price, treating an open upper bound as the largest integer.
+     */
+    public int getMaxPrice() {
+        return maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+    }
+
+    public Optional<PropertyNameContainsKeywordsPredicate> getNamePredicate() {
+        return Optional.ofNullable(namePredicate);
+    }
+
+    @Override
+    public boolean test(Property property) {
+        int price = property.getPrice().price;
+        return price >= getMinPrice() && price <= getMaxPrice()
+                && (namePredicate == null || namePredicate.test(property));
+    }
+
+    /**
+     * Returns true if {@code other} is a price range predicate whose range holds this range, and whose name
+     * condition, if any, is known to accept every name this predicate accepts.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<?> other) {
+        if (!(other instanceof PriceRangePredicate)) {
+            return false;
+        }
+        PriceRangePredicate otherRange = (PriceRangePredicate) other;
+        boolean isWithinRange = getMinPrice() >= otherRange.getMinPrice() && getMaxPrice() <= otherRange.getMaxPrice();
+        return isWithinRange && (otherRange.namePredicate == null
+                || namePredicate != null && namePredicate.isNarrowerThan(otherRange.namePredicate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PriceRangePredicate)) {
+            return false;
+        }
+
+        PriceRangePredicate otherPriceRangePredicate = (PriceRangePredicate) other;
+        return Objects.equals(minPrice, otherPriceRangePredicate.minPrice)
+                && Objects.equals(maxPrice, otherPriceRangePredicate.maxPrice)
+                && Objects.equals(namePredicate, otherPriceRangePredicate.namePredicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minPrice, maxPrice, namePredicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("minPrice", minPrice)
+                .add("maxPrice", maxPrice)
+                .add("namePredicate", namePredicate)
+                .toString();
+    }
+}
@@ -51,8 +51,7 @@ public class Property {
 
         return otherProperty != null
                 && (otherProperty.getPropertyName().equals(getPropertyName())
-                || Address.canonicalLoose(otherProperty.getAddress().value)
-                .equals(Address.canonicalLoose(this.getAddress().value)));
+                || otherProperty.getAddress().getCanonicalLoose().equals(getAddress().getCanonicalLoose()));
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Property's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,8 @@ public class PropertyName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{L}\\p{N}][\\p{L}\\p{N} ]*"; // ./?.etc not allowed
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String fullName;
 
     /**
@@ -35,7 +39,7 @@ public class PropertyName {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return (test.matches(VALIDATION_REGEX) & test.length() <= 50);
+        return test.length() <= 50 && VALIDATION_PATTERN.matcher(test).matches();
     }
 
     private String canonical() {
@@ -5,11 +5,12 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
 
 /**
  * Tests that a {@code Property}'s {@code Name} matches any of the keywords given.
  */
-public class PropertyNameContainsKeywordsPredicate implements Predicate<Property> {
+public class PropertyNameContainsKeywordsPredicate implements RefinablePredicate<Property> {
     private final List<String> keywords;
 
     public PropertyNameContainsKeywordsPredicate(List<String> keywords) {
@@ -24,6 +25,16 @@ public class PropertyNameContainsKeywordsPredicate implements Predicate<Property
                     || property.getPropertyName().fullName.toLowerCase().contains(keyword.toLowerCase()));
     }
 
+    /**
+     * Returns true if {@code other} is a property name predicate and each keyword of this predicate contains one of
+     * its keywords.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<?> other) {
+        return other instanceof PropertyNameContainsKeywordsPredicate && StringUtil.eachContainsAnyIgnoreCase(
+                keywords, ((PropertyNameContainsKeywordsPredicate) other).keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -40,6 +51,11 @@ public class PropertyNameContainsKeywordsPredicate implements Predicate<Property
         return keywords.equals(otherPropertyNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
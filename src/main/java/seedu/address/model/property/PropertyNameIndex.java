@@ -0,0 +1,115 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hash index from property names to properties, with an exact and a case-insensitive lookup.
+ * <p>
+ * The case-insensitive lookup also ignores surrounding whitespace and the length of whitespace runs, as
+ * {@link PropertyName#canonicalLoose(String)} does. Since more than one property may share such a key, each key keeps
+ * the properties having it in the order they were added, and lookups return the earliest one.
+ */
+public class PropertyNameIndex {
+
+    private final Map<String, List<Property>> byExactName = new HashMap<>();
+    private final Map<String, List<Property>> byLooseName = new HashMap<>();
+
+    /**
+     * Adds {@code property} to the index.
+     */
+    public void add(Property property) {
+        requireNonNull(property);
+        addTo(byExactName, exactKeyOf(property), property);
+        addTo(byLooseName, looseKeyOf(property), property);
+    }
+
+    /**
+     * Removes {@code property} from the index.
+     */
+    public void remove(Property property) {
+        requireNonNull(property);
+        removeFrom(byExactName, exactKeyOf(property), property);
+        removeFrom(byLooseName, looseKeyOf(property), property);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedProperty}, keeping its place among properties sharing a key that did
+     * not change.
+     */
+    public void replace(Property target, Property editedProperty) {
+        requireNonNull(target);
+        requireNonNull(editedProperty);
+        replaceIn(byExactName, exactKeyOf(target), exactKeyOf(editedProperty), target, editedProperty);
+        replaceIn(byLooseName, looseKeyOf(target), looseKeyOf(editedProperty), target, editedProperty);
+    }
+
+    /**
+     * Re-indexes every property in {@code properties}, discarding all existing entries.
+     */
+    public void rebuild(List<Property> properties) {
+        byExactName.clear();
+        byLooseName.clear();
+        properties.forEach(this::add);
+    }
+
+    /**
+     * Returns the property whose name is exactly {@code name}, if any.
+     */
+    public Optional<Property> getByName(String name) {
+        requireNonNull(name);
+        return first(byExactName, name);
+    }
+
+    /**
+     * Returns the earliest added property whose name matches {@code name} ignoring case and whitespace differences.
+     */
+    public Optional<Property> getByNameIgnoreCase(String name) {
+        requireNonNull(name);
+        return first(byLooseName, PropertyName.canonicalLoose(name));
+    }
+
+    private static String exactKeyOf(Property property) {
+        return property.getPropertyName().fullName;
+    }
+
+    private static String looseKeyOf(Property property) {
+        return PropertyName.canonicalLoose(property.getPropertyName().fullName);
+    }
+
+    private static void addTo(Map<String, List<Property>> index, String key, Property property) {
+        index.computeIfAbsent(key, unused -> new ArrayList<>()).add(property);
+    }
+
+    private static void removeFrom(Map<String, List<Property>> index, String key, Property property) {
+        List<Property> properties = index.get(key);
+        if (properties == null) {
+            return;
+        }
+        properties.remove(property);
+        if (properties.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static void replaceIn(Map<String, List<Property>> index, String oldKey, String newKey,
+                                  Property target, Property editedProperty) {
+        List<Property> properties = index.get(oldKey);
+        int position = properties == null ? -1 : properties.indexOf(target);
+        if (position != -1 && oldKey.equals(newKey)) {
+            properties.set(position, editedProperty);
+            return;
+        }
+        removeFrom(index, oldKey, target);
+        addTo(index, newKey, editedProperty);
+    }
+
+    private static Optional<Property> first(Map<String, List<Property>> index, String key) {
+        return Optional.ofNullable(index.get(key)).map(properties -> properties.get(0));
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +22,11 @@ import seedu.address.model.property.exceptions.PropertyNotFoundException;
  * UniquePropertyList. However, the removal of a property uses Property#equals(Object) so
  * as to ensure that the property with exactly the same fields will be removed.
  *
+ * Identity lookups are served by two hash indexes, one on the property name and one on the precomputed loose
+ * canonical address, mirroring the two ways {@code isSameProperty} can match. Each index counts occurrences of its
+ * key so that it stays exact even if a replacement sharing the target's identity clashes with a third property.
+ * Properties are also kept sorted by price, so that price range queries are a binary search.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Property#isSameProperty(Property)
@@ -28,13 +36,17 @@ public class UniquePropertyList implements Iterable<Property> {
     private final ObservableList<Property> internalList = FXCollections.observableArrayList();
     private final ObservableList<Property> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PropertyName, Integer> nameIndex = new HashMap<>();
+    private final Map<String, Integer> looseAddressIndex = new HashMap<>();
+    private final PriceIndex priceIndex = new PriceIndex();
 
     /**
      * Returns true if the list contains an equivalent property as the given argument.
      */
     public boolean contains(Property toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProperty);
+        return nameIndex.containsKey(toCheck.getPropertyName())
+                || looseAddressIndex.containsKey(toCheck.getAddress().getCanonicalLoose());
     }
 
     /**
@@ -47,6 +59,8 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+        priceIndex.add(toAdd);
     }
 
     /**
@@ -67,6 +81,10 @@ public class UniquePropertyList implements Iterable<Property> {
         }
 
         internalList.set(index, editedProperty);
+        unindex(target);
+        index(editedProperty);
+        priceIndex.remove(target);
+        priceIndex.add(editedProperty);
     }
 
     /**
@@ -78,11 +96,18 @@ public class UniquePropertyList implements Iterable<Property> {
         if (!internalList.remove(toRemove)) {
             throw new PropertyNotFoundException();
         }
+        unindex(toRemove);
+        priceIndex.remove(toRemove);
     }
 
     public void setProperties(UniquePropertyList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        looseAddressIndex.clear();
+        looseAddressIndex.putAll(replacement.looseAddressIndex);
+        priceIndex.rebuild(internalList);
     }
 
     /**
@@ -91,11 +116,56 @@ public class UniquePropertyList implements Iterable<Property> {
      */
     public void setProperties(List<Property> properties) {
         requireAllNonNull(properties);
-        if (!propertiesAreUnique(properties)) {
-            throw new DuplicatePropertyException();
+        Map<Integer, Integer> duplicates = findDuplicates(properties);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePropertyException(duplicates.keySet());
         }
 
         internalList.setAll(properties);
+        nameIndex.clear();
+        looseAddressIndex.clear();
+        for (Property property : internalList) {
+            index(property);
+        }
+        priceIndex.rebuild(internalList);
+    }
+
+    /**
+     * Returns the properties in this list priced from {@code minPrice} to {@code maxPrice} inclusive, in ascending
+     * order of price. Properties with the same price are in the order they were added.
+     */
+    public List<Property> getPropertiesInPriceRange(int minPrice, int maxPrice) {
+        return priceIndex.inRange(minPrice, maxPrice);
+    }
+
+    /**
+     * Finds every entry of {@code properties} that has the same identity as an earlier, non-duplicate entry, in a
+     * single hash-based pass over the name and loose address keys. Earlier entries win, so the entries not reported
+     * form a list of unique properties.
+     *
+     * @param properties the properties to check; must not contain nulls
+     * @return the zero-based positions of the duplicate entries, in ascending order, each mapped to the position of
+     *         the earlier entry it duplicates; empty if all properties are unique
+     */
+    public static Map<Integer, Integer> findDuplicates(List<Property> properties) {
+        requireAllNonNull(properties);
+        Map<PropertyName, Integer> namePositions = new HashMap<>();
+        Map<String, Integer> looseAddressPositions = new HashMap<>();
+        Map<Integer, Integer> duplicates = new LinkedHashMap<>();
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            Integer earlier = namePositions.get(property.getPropertyName());
+            if (earlier == null) {
+                earlier = looseAddressPositions.get(property.getAddress().getCanonicalLoose());
+            }
+            if (earlier != null) {
+                duplicates.put(i, earlier);
+                continue;
+            }
+            namePositions.put(property.getPropertyName(), i);
+            looseAddressPositions.put(property.getAddress().getCanonicalLoose(), i);
+        }
+        return duplicates;
     }
 
     /**
@@ -107,7 +177,8 @@ public class UniquePropertyList implements Iterable<Property> {
 
     @Override
     public Iterator<Property> iterator() {
-        return internalList.iterator();
+        // Iterating over the unmodifiable view prevents Iterator#remove from bypassing the identity indexes.
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -134,17 +205,14 @@ public class UniquePropertyList implements Iterable<Property> {
         return internalList.toString();
     }
 
-    /**
-     * Returns true if {@code properties} contains only unique properties.
-     */
-    private boolean propertiesAreUnique(List<Property> properties) {
-        for (int i = 0; i < properties.size() - 1; i++) {
-            for (int j = i + 1; j < properties.size(); j++) {
-                if (properties.get(i).isSameProperty(properties.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private void index(Property property) {
+        nameIndex.merge(property.getPropertyName(), 1, Integer::sum);
+        looseAddressIndex.merge(property.getAddress().getCanonicalLoose(), 1, Integer::sum);
+    }
+
+    private void unindex(Property property) {
+        nameIndex.computeIfPresent(property.getPropertyName(), (key, count) -> count == 1 ? null : count - 1);
+        looseAddressIndex.computeIfPresent(property.getAddress().getCanonicalLoose(), (key, count) ->
+                count == 1 ? null : count - 1);
     }
 }
@@ -1,11 +1,37 @@
 package seedu.address.model.property.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePropertyException extends RuntimeException {
+    private final List<Integer> duplicatePositions;
+
+    /**
+     * Creates an exception without recording which entries are duplicates.
+     */
     public DuplicatePropertyException() {
         super("Operation would result in duplicate property");
+        duplicatePositions = List.of();
+    }
+
+    /**
+     * Creates an exception reporting every offending zero-based position of a bulk replacement list.
+     */
+    public DuplicatePropertyException(Collection<Integer> duplicatePositions) {
+        super("Operation would result in duplicate property at positions " + duplicatePositions);
+        this.duplicatePositions = Collections.unmodifiableList(new ArrayList<>(duplicatePositions));
+    }
+
+    /**
+     * Returns the zero-based positions of the duplicate entries, or an empty list if they were not recorded.
+     */
+    public List<Integer> getDuplicatePositions() {
+        return duplicatePositions;
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +15,8 @@ public class Tag {
             "Tags names should be alphanumeric and not more than 30 characters.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String tagName;
 
     /**
@@ -30,7 +34,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX) & test.length() <= 30;
+        return test.length() <= 30 && VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the JSON format and the binary snapshot or segmented formats.
+ */
+public class AddressBookFormatConverter {
+
+    private AddressBookFormatConverter() {}
+
+    /**
+     * Writes the address book in the JSON data file at {@code jsonFile}, with any journal beside it replayed, to a
+     * binary snapshot at {@code binaryFile}. Invalid entries in the JSON file are left out of the snapshot, as when the
+     * JSON file is loaded, and kept beside it to be reported when it is loaded, until it is next saved.
+     *
+     * @return the report of loading the JSON file, listing the entries left out.
+     * @throws DataLoadingException if the JSON file could not be read.
+     * @throws IOException if the snapshot could not be written.
+     */
+    public static LoadReport jsonToBinary(Path jsonFile, Path binaryFile) throws DataLoadingException, IOException {
+        requireNonNull(jsonFile);
+        requireNonNull(binaryFile);
+        return fromJson(jsonFile, new BinaryAddressBookStorage(binaryFile));
+    }
+
+    /**
+     * Writes the address book in the binary snapshot at {@code binaryFile} to a JSON data file at {@code jsonFile}.
+     *
+     * @throws DataLoadingException if the snapshot could not be read, or does not exist.
+     * @throws IOException if the JSON file could not be written.
+     */
+    public static void binaryToJson(Path binaryFile, Path jsonFile) throws DataLoadingException, IOException {
+        requireNonNull(binaryFile);
+        requireNonNull(jsonFile);
+        toJson(new BinaryAddressBookStorage(binaryFile), jsonFile);
+    }
+
+    /**
+     * Writes the address book in the JSON data file at {@code jsonFile}, with any journal beside it replayed, to a
+     * segmented address book with its manifest at {@code manifestFile}. Invalid entries in the JSON file are left
+     * out of the segments, as when the JSON file is loaded, and kept beside them to be reported when they are loaded,
+     * until they are next saved.
+     *
+     * @return the report of loading the JSON file, listing the entries left out.
+     * @throws DataLoadingException if the JSON file could not be read.
+     * @throws IOException if the segments could not be written.
+     */
+    public static LoadReport jsonToSegmented(Path jsonFile, Path manifestFile)
+            throws DataLoadingException, IOException {
+        requireNonNull(jsonFile);
+        requireNonNull(manifestFile);
+        return fromJson(jsonFile, new SegmentedAddressBookStorage(manifestFile));
+    }
+
+    /**
+     * Writes the segmented address book with its manifest at {@code manifestFile} to a JSON data file at
+     * {@code jsonFile}.
+     *
+     * @throws DataLoadingException if the segments could not be read, or do not exist.
+     * @throws IOException if the JSON file could not be written.
+     */
+    public static void segmentedToJson(Path manifestFile, Path jsonFile) throws DataLoadingException, IOException {
+        requireNonNull(manifestFile);
+        requireNonNull(jsonFile);
+        toJson(new SegmentedAddressBookStorage(manifestFile), jsonFile);
+    }
+
+    /**
+     * Moves the address book in the binary snapshot at {@code binaryFile} back to the JSON data file at
+     * {@code jsonFile}, then deletes the snapshot, as when the JSON format is chosen again. If the snapshot has not
+     * been saved since it was converted from {@code jsonFile} with invalid entries, the JSON file still holds the same
+     * address book along with those entries, and is kept as it is.
+     *
+     * @throws DataLoadingException if the snapshot could not be read, or does not exist.
+     * @throws IOException if the JSON file could not be written, or the snapshot could not be deleted.
+     */
+    public static void moveBinaryToJson(Path binaryFile, Path jsonFile) throws DataLoadingException, IOException {
+        requireNonNull(binaryFile);
+        requireNonNull(jsonFile);
+        if (!isUnchangedSinceConversion(binaryFile, jsonFile)) {
+            binaryToJson(binaryFile, jsonFile);
+        }
+        Files.delete(binaryFile);
+        InvalidEntriesFile.delete(binaryFile);
+    }
+
+    /**
+     * Moves the segmented address book with its manifest at {@code manifestFile} back to the JSON data file at
+     * {@code jsonFile}, then deletes the segments and the directory holding them, as when the JSON format is chosen
+     * again. If the segments have not been saved since they were converted from {@code jsonFile} with invalid entries,
+     * the JSON file still holds the same address book along with those entries, and is kept as it is.
+     *
+     * @throws DataLoadingException if the segments could not be read, or do not exist.
+     * @throws IOException if the JSON file could not be written, or the segments could not be deleted.
+     */
+    public static void moveSegmentedToJson(Path manifestFile, Path jsonFile) throws DataLoadingException,
+            IOException {
+        requireNonNull(manifestFile);
+        requireNonNull(jsonFile);
+        if (!isUnchangedSinceConversion(manifestFile, jsonFile)) {
+            segmentedToJson(manifestFile, jsonFile);
+        }
+        AddressBookSegments.delete(manifestFile);
+    }
+
+    /**
+     * Returns true if the data file at {@code dataFile} still keeps the invalid entries it was converted with, so that
+     * it has not been saved since it was converted from {@code jsonFile}, which is still there.
+     */
+    private static boolean isUnchangedSinceConversion(Path dataFile, Path jsonFile) {
+        return InvalidEntriesFile.exists(dataFile) && Files.exists(jsonFile);
+    }
+
+    private static LoadReport fromJson(Path jsonFile, AddressBookStorage target) throws DataLoadingException,
+            IOException {
+        LoadReport report = new JsonAddressBookStorage(jsonFile).readAddressBookWithReport(jsonFile);
+        target.saveAddressBook(report.getModelData().getAddressBook());
+        InvalidEntriesFile.write(target.getAddressBookFilePath(), report);
+        return report;
+    }
+
+    private static void toJson(AddressBookStorage source, Path jsonFile) throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = source.readAddressBook().orElseThrow(() ->
+                new DataLoadingException(new IOException("No address book at " + source.getAddressBookFilePath())));
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,348 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonAdaptedJournalEntry.LIST_PERSONS;
+import static seedu.address.storage.JsonAdaptedJournalEntry.LIST_PROPERTIES;
+import static seedu.address.storage.JsonAdaptedJournalEntry.OP_ADD;
+import static seedu.address.storage.JsonAdaptedJournalEntry.OP_SET;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * Write-ahead journal of the changes made to an address book since it was last written in full to a JSON data file.
+ * <p>
+ * After a full write, the journal starts tracking that address book instance, recording every change to its persons
+ * and properties lists. Saving the same instance again then appends the recorded changes to a sibling journal file,
+ * one compact JSON line each, instead of rewriting the data file. Reading the data file replays the journal on top of
+ * it. Once the journal holds about as many changes as the data file holds records, or a single save would record that
+ * many, a full write is asked for instead, which compacts the journal back to empty.
+ * <p>
+ * Changes are converted to journal entries as they happen, so a save can be captured on the thread changing the
+ * address book and written on another.
+ * <p>
+ * The first line of the journal file identifies the data file it applies to by size and modification time, so a
+ * journal left behind by a data file that was since replaced or edited by hand is ignored rather than replayed onto
+ * the wrong records. It also holds the number of records in the data file, so that the changes can be merged in
+ * while the data file is read.
+ */
+class AddressBookJournal {
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final int MIN_COMPACTION_ENTRIES = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path dataFilePath;
+    private final Path journalPath;
+
+    private final ListChangeListener<Person> personListener =
+            change -> record(change, LIST_PERSONS, JsonAdaptedJournalEntry::ofPerson);
+    private final ListChangeListener<Property> propertyListener =
+            change -> record(change, LIST_PROPERTIES, JsonAdaptedJournalEntry::ofProperty);
+
+    private ReadOnlyAddressBook tracked;
+    private final List<JsonAdaptedJournalEntry> pending = new ArrayList<>();
+    private boolean needsFullWrite;
+    private int entriesInJournal;
+    private int generation;
+    private int startedGeneration = -1;
+
+    /**
+     * Creates a journal for the data file at {@code dataFilePath}, kept beside it.
+     */
+    AddressBookJournal(Path dataFilePath) {
+        this.dataFilePath = requireNonNull(dataFilePath);
+        this.journalPath = dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Captures the changes recorded since the last save of {@code addressBook} as a save appending them to the
+     * journal, if it is the tracked address book and appending is cheaper than a full write.
+     *
+     * @return empty if the caller should instead write {@code addressBook} in full, as prepared by
+     *         {@link #startTracking} and {@link #startJournal}.
+     */
+    synchronized Optional<PendingSave> prepareAppend(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (addressBook != tracked || needsFullWrite || entriesInJournal + pending.size() > compactionThreshold()) {
+            return Optional.empty();
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : pending) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        entriesInJournal += pending.size();
+        pending.clear();
+
+        int generationToAppendTo = generation;
+        String linesToAppend = lines.toString();
+        return Optional.of(new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                append(generationToAppendTo, linesToAppend);
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Tracks the changes made to {@code addressBook} from now on, which is about to be written in full.
+     *
+     * @return the generation of the journal to start with {@link #startJournal} once the write has succeeded.
+     */
+    synchronized int startTracking(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        stopTracking();
+        tracked = addressBook;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getPropertyList().addListener(propertyListener);
+        needsFullWrite = false;
+        entriesInJournal = 0;
+        return ++generation;
+    }
+
+    /**
+     * Starts a new, empty journal for the data file just written in full, as prepared by {@link #startTracking}. The
+     * data file holds {@code personCount} persons and {@code propertyCount} properties.
+     */
+    void startJournal(int journalGeneration, int personCount, int propertyCount) throws IOException {
+        Header header = new Header(Files.size(dataFilePath), Files.getLastModifiedTime(dataFilePath).toMillis(),
+                personCount, propertyCount);
+        Files.write(journalPath, (JsonUtil.toCompactJsonString(header) + "\n").getBytes(UTF_8));
+        synchronized (this) {
+            startedGeneration = journalGeneration;
+        }
+    }
+
+    /**
+     * Asks for the next save to be a full write, as the last one failed.
+     */
+    synchronized void requireFullWrite() {
+        needsFullWrite = true;
+        pending.clear();
+    }
+
+    private void append(int journalGeneration, String lines) throws IOException {
+        synchronized (this) {
+            if (journalGeneration != startedGeneration) {
+                // The full write this journal follows failed; the full write asked for instead covers these changes
+                return;
+            }
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            Files.write(journalPath, lines.getBytes(UTF_8), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            synchronized (this) {
+                // Later appends to this journal would leave a gap in it, so they are dropped as well
+                if (startedGeneration == journalGeneration) {
+                    startedGeneration = -1;
+                }
+                requireFullWrite();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops tracking and deletes the journal file. Used before the data file is changed by other means.
+     */
+    synchronized void discard() throws IOException {
+        stopTracking();
+        startedGeneration = -1;
+        Files.deleteIfExists(journalPath);
+    }
+
+    /**
+     * Returns {@code snapshot} with the changes in the journal applied, in order, as read by {@link #readChanges()}.
+     *
+     * @throws DataLoadingException if the journal file exists but could not be read.
+     */
+    JsonSerializableAddressBook replayOnto(JsonSerializableAddressBook snapshot) throws DataLoadingException {
+        requireNonNull(snapshot);
+        Optional<Changes> changes = readChanges();
+        return changes.isEmpty() ? snapshot : snapshot.withChanges(changes.get().entries);
+    }
+
+    /**
+     * Returns the changes in the journal, if there is a journal that belongs to the current data file. The changes
+     * end before the first one that cannot be read, as happens when the application stopped partway through
+     * appending it.
+     *
+     * @throws DataLoadingException if the journal file exists but could not be read.
+     */
+    Optional<Changes> readChanges() throws DataLoadingException {
+        List<String> lines;
+        Header header;
+        try {
+            if (!Files.exists(journalPath)) {
+                return Optional.empty();
+            }
+            lines = Files.readAllLines(journalPath, UTF_8);
+            header = lines.isEmpty() ? null : readHeader(lines.get(0));
+            if (header == null || !header.isOf(dataFilePath)) {
+                logger.warning("Ignoring journal " + journalPath + " as it does not belong to " + dataFilePath);
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+            } catch (IOException e) {
+                logger.warning("Stopping journal replay at unreadable entry " + (entries.size() + 1) + ": " + e);
+                break;
+            }
+        }
+        return Optional.of(new Changes(header.personCount, header.propertyCount, entries));
+    }
+
+    private static Header readHeader(String headerLine) {
+        try {
+            return JsonUtil.fromJsonString(headerLine, Header.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private int compactionThreshold() {
+        int records = tracked.getPersonList().size() + tracked.getPropertyList().size();
+        return Math.max(MIN_COMPACTION_ENTRIES, records);
+    }
+
+    private void stopTracking() {
+        if (tracked != null) {
+            tracked.getPersonList().removeListener(personListener);
+            tracked.getPropertyList().removeListener(propertyListener);
+            tracked = null;
+        }
+        pending.clear();
+    }
+
+    /**
+     * Records {@code change} as journal entries. A change to most of the list, such as replacing the whole list, is
+     * not recorded; a full write is asked for instead.
+     */
+    private synchronized <T> void record(ListChangeListener.Change<? extends T> change, String list,
+                                         EntryFactory<T> toEntry) {
+        while (change.next() && !needsFullWrite) {
+            ObservableList<? extends T> records = change.getList();
+            if (change.wasPermutated() || change.getRemovedSize() + change.getAddedSize() > compactionThreshold()) {
+                needsFullWrite = true;
+                pending.clear();
+                return;
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    pending.add(toEntry.create(OP_SET, i, records.get(i)));
+                }
+                continue;
+            }
+
+            int from = change.getFrom();
+            int replaced = Math.min(change.getRemovedSize(), change.getAddedSize());
+            for (int i = 0; i < replaced; i++) {
+                pending.add(toEntry.create(OP_SET, from + i, records.get(from + i)));
+            }
+            for (int i = replaced; i < change.getRemovedSize(); i++) {
+                pending.add(JsonAdaptedJournalEntry.removal(list, from + replaced));
+            }
+            for (int i = replaced; i < change.getAddedSize(); i++) {
+                pending.add(toEntry.create(OP_ADD, from + i, records.get(from + i)));
+            }
+        }
+    }
+
+    /**
+     * Creates the journal entry adding or replacing a record of one list.
+     */
+    @FunctionalInterface
+    private interface EntryFactory<T> {
+        JsonAdaptedJournalEntry create(String op, int index, T record);
+    }
+
+    /**
+     * The changes recorded in a journal, with the number of records in the data file they apply to.
+     */
+    static class Changes {
+        final int personCount;
+        final int propertyCount;
+        final List<JsonAdaptedJournalEntry> entries;
+
+        Changes(int personCount, int propertyCount, List<JsonAdaptedJournalEntry> entries) {
+            this.personCount = personCount;
+            this.propertyCount = propertyCount;
+            this.entries = requireNonNull(entries);
+        }
+    }
+
+    /**
+     * Jackson-friendly first line of a journal file, identifying the data file the journal applies to.
+     */
+    static class Header {
+        private final long snapshotSize;
+        private final long snapshotModified;
+        private final Integer personCount;
+        private final Integer propertyCount;
+
+        /**
+         * Constructs a {@code Header} for a data file of the given size and modification time, holding the given
+         * numbers of records.
+         */
+        @JsonCreator
+        Header(@JsonProperty("snapshotSize") long snapshotSize,
+               @JsonProperty("snapshotModified") long snapshotModified,
+               @JsonProperty("personCount") Integer personCount,
+               @JsonProperty("propertyCount") Integer propertyCount) {
+            this.snapshotSize = snapshotSize;
+            this.snapshotModified = snapshotModified;
+            this.personCount = personCount;
+            this.propertyCount = propertyCount;
+        }
+
+        /**
+         * Returns true if this header identifies the data file at {@code dataFilePath} as it is now.
+         */
+        boolean isOf(Path dataFilePath) throws IOException {
+            return personCount != null && propertyCount != null
+                    && Files.exists(dataFilePath)
+                    && snapshotSize == Files.size(dataFilePath)
+                    && snapshotModified == Files.getLastModifiedTime(dataFilePath).toMillis();
+        }
+    }
+}
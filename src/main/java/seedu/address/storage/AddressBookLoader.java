@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROPERTY;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.UniquePropertyList;
+
+/**
+ * Builds the {@link LoadReport} of an address book from its raw records, one record at a time, so that a reader can
+ * hand over each record as soon as it has read it.
+ * <p>
+ * Records are converted to model objects in chunks of {@value #CHUNK_SIZE}, each chunk on the common fork-join pool as
+ * soon as it is full, so that validating records uses every core while the reader goes on reading. The converted
+ * chunks are then merged in the order they were added, and invalid records reported at their position in their list.
+ * Persons refer to properties by name, so persons added before {@link #endProperties()} are kept in their raw form
+ * until then. Duplicates are found once a list is merged, so that earlier entries win.
+ */
+class AddressBookLoader {
+
+    static final int CHUNK_SIZE = 256;
+
+    private final AddressBook model = new AddressBook();
+    private final List<LoadReport.InvalidPersonEntry> invalidPersons = new ArrayList<>();
+    private final List<LoadReport.InvalidPropertyEntry> invalidProperties = new ArrayList<>();
+
+    private final List<JsonAdaptedProperty> propertyChunk = new ArrayList<>();
+    private final List<ForkJoinTask<List<Conversion<JsonAdaptedProperty, Property>>>> propertyConversions =
+            new ArrayList<>();
+    private int propertiesAdded;
+    private boolean isPropertiesEnded;
+
+    private final List<JsonAdaptedPerson> personsAwaitingProperties = new ArrayList<>();
+    private final List<JsonAdaptedPerson> personChunk = new ArrayList<>();
+    private final List<ForkJoinTask<List<Conversion<JsonAdaptedPerson, Person>>>> personConversions =
+            new ArrayList<>();
+    private int personsAdded;
+
+    /**
+     * Converts {@code property}, the next record of the properties list.
+     */
+    void addProperty(JsonAdaptedProperty property) {
+        requireNonNull(property);
+        if (isPropertiesEnded) {
+            throw new IllegalStateException("Properties list already ended");
+        }
+        propertiesAdded++;
+        propertyChunk.add(property);
+        if (propertyChunk.size() == CHUNK_SIZE) {
+            submitPropertyChunk();
+        }
+    }
+
+    private void submitPropertyChunk() {
+        if (!propertyChunk.isEmpty()) {
+            propertyConversions.add(submit(propertyChunk, propertiesAdded - propertyChunk.size(),
+                    JsonAdaptedProperty::toModelType));
+            propertyChunk.clear();
+        }
+    }
+
+    /**
+     * Marks the properties list as complete, which settles the properties that persons can refer to.
+     */
+    void endProperties() {
+        if (isPropertiesEnded) {
+            return;
+        }
+        isPropertiesEnded = true;
+        submitPropertyChunk();
+
+        List<Conversion<JsonAdaptedProperty, Property>> converted = new ArrayList<>();
+        for (ForkJoinTask<List<Conversion<JsonAdaptedProperty, Property>>> chunk : propertyConversions) {
+            for (Conversion<JsonAdaptedProperty, Property> conversion : chunk.join()) {
+                if (conversion.result != null) {
+                    converted.add(conversion);
+                    continue;
+                }
+                JsonAdaptedProperty source = conversion.source;
+                String reason = conversion.reason == null ? "Invalid property" : conversion.reason;
+                invalidProperties.add(new LoadReport.InvalidPropertyEntry(conversion.index, reason,
+                        source.getAddress(), source.getPrice(), source.getName(), source.invalidFieldKeys()));
+            }
+        }
+        propertyConversions.clear();
+
+        Map<Integer, Integer> duplicates = UniquePropertyList.findDuplicates(results(converted));
+        List<Property> uniqueProperties = new ArrayList<>();
+        for (int k = 0; k < converted.size(); k++) {
+            Integer duplicateOf = duplicates.get(k);
+            Conversion<JsonAdaptedProperty, Property> conversion = converted.get(k);
+            if (duplicateOf == null) {
+                uniqueProperties.add(conversion.result);
+                continue;
+            }
+            JsonAdaptedProperty source = conversion.source;
+            invalidProperties.add(new LoadReport.InvalidPropertyEntry(conversion.index, MESSAGE_DUPLICATE_PROPERTY,
+                    source.getAddress(), source.getPrice(), source.getName(), Set.of("propertyName"),
+                    converted.get(duplicateOf).index));
+        }
+        model.setProperties(uniqueProperties);
+
+        // Persons are kept only until the properties end, so the ones kept are the first persons of the list
+        for (JsonAdaptedPerson person : personsAwaitingProperties) {
+            addPersonToChunk(person);
+        }
+        personsAwaitingProperties.clear();
+    }
+
+    /**
+     * Converts {@code person}, the next record of the persons list, or keeps it until {@link #endProperties()}.
+     */
+    void addPerson(JsonAdaptedPerson person) {
+        requireNonNull(person);
+        personsAdded++;
+        if (isPropertiesEnded) {
+            addPersonToChunk(person);
+        } else {
+            personsAwaitingProperties.add(person);
+        }
+    }
+
+    private void addPersonToChunk(JsonAdaptedPerson person) {
+        personChunk.add(person);
+        if (personChunk.size() == CHUNK_SIZE) {
+            submitPersonChunk();
+        }
+    }
+
+    private void submitPersonChunk() {
+        if (!personChunk.isEmpty()) {
+            int firstIndex = personConversions.size() * CHUNK_SIZE;
+            // The properties are settled, so the model is only read while persons are converted
+            personConversions.add(submit(personChunk, firstIndex, person -> person.toModelType(model)));
+            personChunk.clear();
+        }
+    }
+
+    /**
+     * Returns the report of every record added, with the invalid entries of each list in file order.
+     */
+    LoadReport finish() {
+        endProperties();
+        submitPersonChunk();
+
+        List<Conversion<JsonAdaptedPerson, Person>> converted = new ArrayList<>(personsAdded);
+        for (ForkJoinTask<List<Conversion<JsonAdaptedPerson, Person>>> chunk : personConversions) {
+            for (Conversion<JsonAdaptedPerson, Person> conversion : chunk.join()) {
+                if (conversion.result != null) {
+                    converted.add(conversion);
+                    continue;
+                }
+                JsonAdaptedPerson source = conversion.source;
+                String reason = conversion.reason == null ? "Invalid person" : conversion.reason;
+                invalidPersons.add(new LoadReport.InvalidPersonEntry(conversion.index, reason, source.getName(),
+                        source.getPhone(), source.getEmail(), source.getAddress(), source.invalidFieldKeys()));
+            }
+        }
+        personConversions.clear();
+
+        Map<Integer, Integer> duplicates = UniquePersonList.findDuplicates(results(converted));
+        List<Person> uniquePersons = new ArrayList<>();
+        for (int k = 0; k < converted.size(); k++) {
+            Integer duplicateOf = duplicates.get(k);
+            Person person = converted.get(k).result;
+            if (duplicateOf == null) {
+                uniquePersons.add(person);
+                continue;
+            }
+            invalidPersons.add(new LoadReport.InvalidPersonEntry(converted.get(k).index, MESSAGE_DUPLICATE_PERSON,
+                    person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                    person.getAddress().value, Set.of(), converted.get(duplicateOf).index));
+        }
+        model.setPersons(uniquePersons);
+
+        invalidProperties.sort(Comparator.comparingInt(LoadReport.InvalidPropertyEntry::index));
+        invalidPersons.sort(Comparator.comparingInt(LoadReport.InvalidPersonEntry::index));
+        return new LoadReport(new LoadReport.ModelData(model), invalidPersons, invalidProperties);
+    }
+
+    /**
+     * Converts a copy of {@code chunk}, whose first record is at {@code firstIndex} of its list, on the common
+     * fork-join pool.
+     */
+    private static <S, T> ForkJoinTask<List<Conversion<S, T>>> submit(List<S> chunk, int firstIndex,
+                                                                    Converter<S, T> converter) {
+        List<S> sources = new ArrayList<>(chunk);
+        return ForkJoinPool.commonPool().submit(() -> {
+            List<Conversion<S, T>> conversions = new ArrayList<>(sources.size());
+            for (int i = 0; i < sources.size(); i++) {
+                conversions.add(Conversion.of(firstIndex + i, sources.get(i), converter));
+            }
+            return conversions;
+        });
+    }
+
+    private static <S, T> List<T> results(List<Conversion<S, T>> conversions) {
+        List<T> results = new ArrayList<>(conversions.size());
+        for (Conversion<S, T> conversion : conversions) {
+            results.add(conversion.result);
+        }
+        return results;
+    }
+
+    /**
+     * Converts a raw record to its model object.
+     */
+    @FunctionalInterface
+    private interface Converter<S, T> {
+        T convert(S source) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting the raw record at {@code index} of its list: the model object, or the reason the
+     * record is invalid.
+     */
+    private static class Conversion<S, T> {
+        private final int index;
+        private final S source;
+        private final T result;
+        private final String reason;
+
+        private Conversion(int index, S source, T result, String reason) {
+            this.index = index;
+            this.source = source;
+            this.result = result;
+            this.reason = reason;
+        }
+
+        static <S, T> Conversion<S, T> of(int index, S source, Converter<S, T> converter) {
+            try {
+                return new Conversion<>(index, source, converter.convert(source), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion<>(index, source, null, ive.getMessage());
+            }
+        }
+    }
+}
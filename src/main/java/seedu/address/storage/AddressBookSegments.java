@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * Reads and writes the files of a segmented address book, which is kept in a directory of its own.
+ * <p>
+ * The properties are kept in one segment, and the persons in segments of a fixed number of consecutive persons each.
+ * Each segment is a compact JSON address book document holding only its records. The manifest lists the segments in
+ * order with the CRC-32 checksum and record count of each, and is the only file that is ever replaced: a changed
+ * segment is written to a new file, and the manifest then replaced in one move to refer to it. A save that fails
+ * partway, or a crash, therefore leaves the previous manifest and all the segments it refers to in place.
+ */
+class AddressBookSegments {
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final String SEGMENT_EXTENSION = ".json";
+    private static final String PROPERTIES_SEGMENT = "properties";
+    private static final String PERSONS_SEGMENT = "persons-";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSegments.class);
+
+    private AddressBookSegments() {}
+
+    /**
+     * Converts {@code properties} to the segment holding them.
+     */
+    static EncodedSegment encodeProperties(List<Property> properties) throws IOException {
+        List<JsonAdaptedProperty> records = new ArrayList<>(properties.size());
+        for (Property property : properties) {
+            records.add(new JsonAdaptedProperty(property));
+        }
+        return encode(new JsonSerializableAddressBook(null, records));
+    }
+
+    /**
+     * Converts {@code persons} to a segment holding them.
+     */
+    static EncodedSegment encodePersons(List<Person> persons) throws IOException {
+        List<JsonAdaptedPerson> records = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            records.add(new JsonAdaptedPerson(person));
+        }
+        return encode(new JsonSerializableAddressBook(records, null));
+    }
+
+    /**
+     * Converts {@code records}, already in their JSON form, to a segment holding them.
+     */
+    static EncodedSegment encode(JsonSerializableAddressBook records) throws IOException {
+        byte[] bytes = JsonUtil.toCompactJsonString(records).getBytes(UTF_8);
+        int count = records.getPersons().size() + records.getProperties().size();
+        return new EncodedSegment(bytes, checksumOf(bytes), count);
+    }
+
+    /**
+     * Returns the manifest at {@code manifestFile}, or empty if there is none.
+     */
+    static Optional<Manifest> readManifest(Path manifestFile) throws IOException {
+        requireNonNull(manifestFile);
+        if (!Files.exists(manifestFile)) {
+            return Optional.empty();
+        }
+        Manifest manifest = JsonUtil.fromJsonString(Files.readString(manifestFile, UTF_8), Manifest.class);
+        if (manifest == null || !manifest.isComplete()) {
+            throw new IOException("Manifest " + manifestFile + " is incomplete");
+        }
+        return Optional.of(manifest);
+    }
+
+    /**
+     * Reads the segments listed in {@code manifest}, kept beside {@code manifestFile}, into {@code loader}: the
+     * properties first, then the persons in order.
+     *
+     * @throws IOException if a segment is missing, fails its checksum or is not a JSON address book.
+     */
+    static void readInto(AddressBookLoader loader, Path manifestFile, Manifest manifest) throws IOException {
+        requireNonNull(loader);
+        for (JsonAdaptedProperty property : readSegment(manifestFile, manifest.properties).getProperties()) {
+            loader.addProperty(property);
+        }
+        loader.endProperties();
+        for (Segment segment : manifest.persons) {
+            for (JsonAdaptedPerson person : readSegment(manifestFile, segment).getPersons()) {
+                loader.addPerson(person);
+            }
+        }
+    }
+
+    /**
+     * Reads the records of {@code segment}, listed in the manifest at {@code manifestFile}.
+     */
+    static JsonSerializableAddressBook readSegment(Path manifestFile, Segment segment) throws IOException {
+        Path file = manifestFile.resolveSibling(segment.file);
+        byte[] bytes = Files.readAllBytes(file);
+        if (checksumOf(bytes) != segment.checksum) {
+            throw new IOException("Segment " + file + " does not match its checksum");
+        }
+        return JsonUtil.fromJsonString(new String(bytes, UTF_8), JsonSerializableAddressBook.class);
+    }
+
+    /**
+     * Writes a new manifest at {@code manifestFile} from {@code current}, the manifest there now, if any, with the
+     * given segments in place of the ones it lists. A null segment is kept as {@code current} lists it; a segment the
+     * same as the one {@code current} lists is not written again. Files beside the manifest that the new manifest
+     * does not refer to are deleted once it is in place.
+     *
+     * @param properties the properties segment, or null to keep the current one.
+     * @param persons the person segments, each null to keep the current one at its position.
+     * @return the new manifest.
+     * @throws IOException if a segment or the manifest could not be written, or a kept segment is not in
+     *         {@code current}.
+     */
+    static Manifest commit(Path manifestFile, Manifest current, int segmentSize, EncodedSegment properties,
+                           List<EncodedSegment> persons) throws IOException {
+        requireNonNull(manifestFile);
+        FileUtil.createParentDirsOfFile(manifestFile);
+        long revision = current == null ? 1 : current.revision + 1;
+
+        Segment propertiesSegment = update(manifestFile, revision, PROPERTIES_SEGMENT,
+                current == null ? null : current.properties, properties);
+        List<Segment> personSegments = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Segment kept = current != null && i < current.persons.size() ? current.persons.get(i) : null;
+            personSegments.add(update(manifestFile, revision, PERSONS_SEGMENT + i, kept, persons.get(i)));
+        }
+
+        Manifest updated = new Manifest(segmentSize, revision, propertiesSegment, personSegments);
+        Path tempFile = manifestFile.resolveSibling(manifestFile.getFileName()
+                + StreamingAddressBookWriter.TEMP_FILE_SUFFIX);
+        FileUtil.writeDurably(tempFile, JsonUtil.toJsonString(updated).getBytes(UTF_8));
+        FileUtil.moveReplacing(tempFile, manifestFile);
+        // Like a JSON data file, the segments drop the invalid entries they were converted with once saved
+        InvalidEntriesFile.delete(manifestFile);
+
+        deleteUnlisted(manifestFile, updated);
+        return updated;
+    }
+
+    /**
+     * Deletes the segmented address book with its manifest at {@code manifestFile}, with the directory holding it.
+     * The manifest is deleted first, so that a failure part way leaves no address book rather than a partial one.
+     */
+    static void delete(Path manifestFile) throws IOException {
+        requireNonNull(manifestFile);
+        Files.deleteIfExists(manifestFile);
+        Path directory = manifestFile.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(PROPERTIES_SEGMENT) || fileName.startsWith(PERSONS_SEGMENT)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        InvalidEntriesFile.delete(manifestFile);
+        try {
+            Files.deleteIfExists(directory);
+        } catch (DirectoryNotEmptyException e) {
+            // Holds files this class did not write, which are left to the user
+            logger.warning("Could not delete " + directory + ", as it holds other files");
+        }
+    }
+
+    private static Segment update(Path manifestFile, long revision, String name, Segment kept,
+                                  EncodedSegment encoded) throws IOException {
+        if (encoded == null) {
+            if (kept == null) {
+                throw new IOException("No current " + name + " segment to keep");
+            }
+            return kept;
+        }
+        if (kept != null && kept.checksum == encoded.checksum && kept.count == encoded.count) {
+            return kept;
+        }
+
+        String fileName = name + "." + revision + SEGMENT_EXTENSION;
+        // Forced to disk before the manifest that lists it
+        FileUtil.writeDurably(manifestFile.resolveSibling(fileName), encoded.bytes);
+        return new Segment(fileName, encoded.checksum, encoded.count);
+    }
+
+    /**
+     * Deletes the segments beside {@code manifestFile} that {@code manifest} does not list, which earlier saves
+     * replaced or left behind.
+     */
+    private static void deleteUnlisted(Path manifestFile, Manifest manifest) {
+        Set<String> listed = new HashSet<>();
+        listed.add(manifest.properties.file);
+        for (Segment segment : manifest.persons) {
+            listed.add(segment.file);
+        }
+
+        Path directory = manifestFile.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                boolean isSegment = fileName.startsWith(PROPERTIES_SEGMENT) || fileName.startsWith(PERSONS_SEGMENT);
+                if (isSegment && !listed.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            // The saved data is complete without the cleanup, which the next save tries again
+            logger.warning("Could not delete old segments in " + directory + ": " + e);
+        }
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * A segment converted to the bytes of its file, not yet written.
+     */
+    static class EncodedSegment {
+        private final byte[] bytes;
+        private final long checksum;
+        private final int count;
+
+        EncodedSegment(byte[] bytes, long checksum, int count) {
+            this.bytes = requireNonNull(bytes);
+            this.checksum = checksum;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Jackson-friendly entry of a manifest, naming the file of a segment with the checksum of its contents and the
+     * number of records it holds.
+     */
+    static class Segment {
+        private final String file;
+        private final long checksum;
+        private final int count;
+
+        /**
+         * Constructs a {@code Segment} for the given file.
+         */
+        @JsonCreator
+        Segment(@JsonProperty("file") String file, @JsonProperty("checksum") long checksum,
+                @JsonProperty("count") int count) {
+            this.file = file;
+            this.checksum = checksum;
+            this.count = count;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * Jackson-friendly manifest of a segmented address book, listing its segments in order.
+     */
+    static class Manifest {
+        private final int segmentSize;
+        private final long revision;
+        private final Segment properties;
+        private final List<Segment> persons;
+
+        /**
+         * Constructs a {@code Manifest} of persons kept {@code segmentSize} to a segment.
+         */
+        @JsonCreator
+        Manifest(@JsonProperty("segmentSize") int segmentSize, @JsonProperty("revision") long revision,
+                 @JsonProperty("properties") Segment properties, @JsonProperty("persons") List<Segment> persons) {
+            this.segmentSize = segmentSize;
+            this.revision = revision;
+            this.properties = properties;
+            this.persons = persons;
+        }
+
+        int getSegmentSize() {
+            return segmentSize;
+        }
+
+        List<Segment> getPersonSegments() {
+            return persons;
+        }
+
+        private boolean isComplete() {
+            return segmentSize > 0 && properties != null && properties.file != null && persons != null
+                    && persons.stream().allMatch(segment -> segment != null && segment.file != null);
+        }
+    }
+}
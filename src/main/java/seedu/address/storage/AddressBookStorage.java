@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -47,6 +48,20 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures what {@link #saveAddressBook(ReadOnlyAddressBook)} would write for {@code addressBook}, without writing
+     * it, so that it can be written later while {@code addressBook} goes on changing.
+     * <p>
+     * By default this copies {@code addressBook}. Implementations may capture less.
+     *
+     * @param addressBook cannot be null.
+     * @throws IOException if the save could not be captured.
+     */
+    default PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        AddressBook copy = new AddressBook(addressBook);
+        return () -> saveAddressBook(copy);
+    }
+
     /**
      * Reads the address book and returns a structured {@link LoadReport}
      * containing both parsed entries and invalid entries with reasons.
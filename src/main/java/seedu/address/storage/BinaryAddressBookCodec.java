@@ -0,0 +1,356 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.property.Price;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+import seedu.address.model.property.exceptions.DuplicatePropertyException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an address book to the binary snapshot format of {@link BinaryAddressBookStorage}, and decodes it back.
+ * <p>
+ * A snapshot is a fixed-size header followed by four sections, all made of big-endian ints except the string bytes:
+ * <ol>
+ *     <li>the string table: the start offset of each distinct string in the string bytes, plus the end offset,
+ *     followed by the UTF-8 bytes of all strings;</li>
+ *     <li>one fixed-width record per property: name, address (string ids) and price;</li>
+ *     <li>one fixed-width record per person: name, phone, email and address (string ids), then the start and count of
+ *     its tags, owned properties and interested properties in the links section;</li>
+ *     <li>the links: tags as string ids and properties as their position in the property records.</li>
+ * </ol>
+ * The header holds the size of each section and a CRC-32 checksum of the rest of the snapshot, so that a damaged file
+ * is rejected rather than loaded with wrong data.
+ */
+class BinaryAddressBookCodec {
+
+    static final int MAGIC = 0x45534231; // "ESB1"
+    static final int VERSION = 1;
+
+    // magic, version, string count, string bytes, property count, person count, link count, then the checksum
+    static final int CHECKSUM_OFFSET = 7 * Integer.BYTES;
+    static final int HEADER_SIZE = CHECKSUM_OFFSET + Long.BYTES;
+
+    private static final int PROPERTY_RECORD_INTS = 3;
+    private static final int PERSON_RECORD_INTS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookCodec.class);
+
+    /**
+     * Returns the snapshot of {@code addressBook}.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Property> properties = addressBook.getPropertyList();
+        List<Person> persons = addressBook.getPersonList();
+
+        StringTable strings = new StringTable();
+        Map<Property, Integer> propertyIds = new HashMap<>();
+        int[] propertyRecords = new int[properties.size() * PROPERTY_RECORD_INTS];
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            propertyIds.putIfAbsent(property, i);
+            propertyRecords[i * PROPERTY_RECORD_INTS] = strings.idOf(property.getPropertyName().fullName);
+            propertyRecords[i * PROPERTY_RECORD_INTS + 1] = strings.idOf(property.getAddress().value);
+            propertyRecords[i * PROPERTY_RECORD_INTS + 2] = property.getPrice().getIntegerPrice();
+        }
+
+        IntList links = new IntList();
+        int[] personRecords = new int[persons.size() * PERSON_RECORD_INTS];
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            int at = i * PERSON_RECORD_INTS;
+            personRecords[at] = strings.idOf(person.getName().fullName);
+            personRecords[at + 1] = strings.idOf(person.getPhone().value);
+            personRecords[at + 2] = strings.idOf(person.getEmail().value);
+            personRecords[at + 3] = strings.idOf(person.getAddress().value);
+
+            personRecords[at + 4] = links.size();
+            for (Tag tag : person.getTags()) {
+                links.add(strings.idOf(tag.tagName));
+            }
+            personRecords[at + 5] = links.size() - personRecords[at + 4];
+            personRecords[at + 6] = links.size();
+            addPropertyLinks(person, person.getOwnedProperties(), addressBook, propertyIds, links);
+            personRecords[at + 7] = links.size() - personRecords[at + 6];
+            personRecords[at + 8] = links.size();
+            addPropertyLinks(person, person.getInterestedProperties(), addressBook, propertyIds, links);
+            personRecords[at + 9] = links.size() - personRecords[at + 8];
+        }
+
+        byte[] stringBytes = strings.bytes();
+        int size = HEADER_SIZE + (strings.size() + 1) * Integer.BYTES + stringBytes.length
+                + (propertyRecords.length + personRecords.length + links.size()) * Integer.BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(strings.size()).putInt(stringBytes.length)
+                .putInt(properties.size()).putInt(persons.size()).putInt(links.size()).putLong(0);
+        for (int offset : strings.offsets()) {
+            buffer.putInt(offset);
+        }
+        buffer.put(stringBytes);
+        buffer.asIntBuffer().put(propertyRecords).put(personRecords).put(links.toArray());
+
+        buffer.putLong(CHECKSUM_OFFSET, checksumOf(buffer));
+        return buffer.array();
+    }
+
+    /**
+     * Adds the positions of {@code linked} in the property records to {@code links}. A property that is not in the
+     * address book is left out, as it would fail to resolve when the address book is loaded from JSON.
+     */
+    private static void addPropertyLinks(Person person, List<Property> linked, ReadOnlyAddressBook addressBook,
+                                         Map<Property, Integer> propertyIds, IntList links) {
+        for (Property property : linked) {
+            Integer id = propertyIds.get(property);
+            if (id == null) {
+                id = addressBook.getPropertyByName(property.getPropertyName().fullName)
+                        .map(propertyIds::get).orElse(null);
+            }
+            if (id == null) {
+                logger.warning("Leaving out property " + property.getPropertyName() + " of " + person.getName()
+                        + " as it is not in the address book");
+                continue;
+            }
+            links.add(id);
+        }
+    }
+
+    /**
+     * Returns the address book held in the snapshot in {@code buffer}, from its position to its limit.
+     *
+     * @throws IllegalValueException if {@code buffer} is not a snapshot, or is damaged.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        ByteBuffer snapshot = buffer.slice();
+        if (snapshot.remaining() < HEADER_SIZE || snapshot.getInt(0) != MAGIC) {
+            throw new IllegalValueException("Not an address book snapshot");
+        }
+        if (snapshot.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalValueException("Unsupported snapshot version " + snapshot.getInt(Integer.BYTES));
+        }
+        if (snapshot.getLong(CHECKSUM_OFFSET) != checksumOf(snapshot)) {
+            throw new IllegalValueException("Snapshot checksum does not match; the file is damaged");
+        }
+
+        snapshot.position(2 * Integer.BYTES);
+        int stringCount = snapshot.getInt();
+        int stringBytesLength = snapshot.getInt();
+        int propertyCount = snapshot.getInt();
+        int personCount = snapshot.getInt();
+        int linkCount = snapshot.getInt();
+        long expectedSize = HEADER_SIZE + ((long) stringCount + 1) * Integer.BYTES + stringBytesLength
+                + ((long) propertyCount * PROPERTY_RECORD_INTS + (long) personCount * PERSON_RECORD_INTS + linkCount)
+                * Integer.BYTES;
+        if (stringCount < 0 || stringBytesLength < 0 || propertyCount < 0 || personCount < 0 || linkCount < 0
+                || expectedSize != snapshot.limit()) {
+            throw new IllegalValueException("Snapshot sections do not match its size");
+        }
+
+        snapshot.position(HEADER_SIZE);
+        String[] strings = readStrings(snapshot, stringCount, stringBytesLength);
+        Reader reader = new Reader(snapshot, strings);
+
+        try {
+            List<Property> properties = new ArrayList<>(propertyCount);
+            for (int i = 0; i < propertyCount; i++) {
+                PropertyName name = new PropertyName(reader.string());
+                seedu.address.model.property.Address address =
+                        new seedu.address.model.property.Address(reader.string());
+                properties.add(new Property(address, new Price(snapshot.getInt()), name));
+            }
+
+            int linksStart = snapshot.position() + personCount * PERSON_RECORD_INTS * Integer.BYTES;
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                Name name = new Name(reader.string());
+                Phone phone = new Phone(reader.string());
+                Email email = new Email(reader.string());
+                Address address = new Address(reader.string());
+                Set<Tag> tags = new HashSet<>();
+                for (int id : reader.links(linksStart, linkCount, stringCount)) {
+                    tags.add(new Tag(strings[id]));
+                }
+                List<Property> owned = reader.properties(linksStart, linkCount, properties);
+                List<Property> interested = reader.properties(linksStart, linkCount, properties);
+                persons.add(new Person(name, phone, email, address, tags, owned, interested));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setProperties(properties);
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (IllegalArgumentException | DuplicatePersonException | DuplicatePropertyException e) {
+            throw new IllegalValueException("Snapshot holds invalid records: " + e.getMessage(), e);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer snapshot, int stringCount, int stringBytesLength)
+            throws IllegalValueException {
+        int[] offsets = new int[stringCount + 1];
+        snapshot.asIntBuffer().get(offsets);
+        int bytesStart = snapshot.position() + offsets.length * Integer.BYTES;
+
+        String[] strings = new String[stringCount];
+        byte[] scratch = new byte[0];
+        for (int i = 0; i < stringCount; i++) {
+            int length = offsets[i + 1] - offsets[i];
+            if (offsets[i] < 0 || length < 0 || offsets[i + 1] > stringBytesLength) {
+                throw new IllegalValueException("Snapshot string table is malformed");
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            snapshot.get(bytesStart + offsets[i], scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, UTF_8);
+        }
+        snapshot.position(bytesStart + stringBytesLength);
+        return strings;
+    }
+
+    /**
+     * Returns the checksum of {@code snapshot}, covering every byte except the checksum itself.
+     */
+    private static long checksumOf(ByteBuffer snapshot) {
+        CRC32 crc = new CRC32();
+        crc.update(snapshot.duplicate().position(0).limit(CHECKSUM_OFFSET));
+        crc.update(snapshot.duplicate().position(HEADER_SIZE).limit(snapshot.limit()));
+        return crc.getValue();
+    }
+
+    /**
+     * Reads the fixed-width records of a snapshot, checking every id it follows.
+     */
+    private static class Reader {
+        private final ByteBuffer snapshot;
+        private final String[] strings;
+
+        Reader(ByteBuffer snapshot, String[] strings) {
+            this.snapshot = snapshot;
+            this.strings = strings;
+        }
+
+        String string() {
+            int id = snapshot.getInt();
+            checkId(id, strings.length);
+            return strings[id];
+        }
+
+        int[] links(int linksStart, int linkCount, int idLimit) {
+            int start = snapshot.getInt();
+            int count = snapshot.getInt();
+            if (start < 0 || count < 0 || (long) start + count > linkCount) {
+                throw new IllegalArgumentException("links outside the links section");
+            }
+            int[] ids = new int[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = snapshot.getInt(linksStart + (start + i) * Integer.BYTES);
+                checkId(ids[i], idLimit);
+            }
+            return ids;
+        }
+
+        List<Property> properties(int linksStart, int linkCount, List<Property> properties) {
+            List<Property> linked = new ArrayList<>();
+            for (int id : links(linksStart, linkCount, properties.size())) {
+                linked.add(properties.get(id));
+            }
+            return linked;
+        }
+
+        private static void checkId(int id, int limit) {
+            if (id < 0 || id >= limit) {
+                throw new IllegalArgumentException("id " + id + " outside 0.." + (limit - 1));
+            }
+        }
+    }
+
+    /**
+     * Assigns each distinct string an id, in the order the strings are first seen.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> ids = new LinkedHashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private int length;
+
+        int idOf(String string) {
+            Integer id = ids.get(string);
+            if (id == null) {
+                id = ids.size();
+                ids.put(string, id);
+                byte[] bytes = string.getBytes(UTF_8);
+                encoded.add(bytes);
+                length += bytes.length;
+            }
+            return id;
+        }
+
+        int size() {
+            return ids.size();
+        }
+
+        int[] offsets() {
+            int[] offsets = new int[encoded.size() + 1];
+            for (int i = 0; i < encoded.size(); i++) {
+                offsets[i + 1] = offsets[i] + encoded.get(i).length;
+            }
+            return offsets;
+        }
+
+        byte[] bytes() {
+            byte[] bytes = new byte[length];
+            int at = 0;
+            for (byte[] string : encoded) {
+                System.arraycopy(string, 0, bytes, at, string.length);
+                at += string.length;
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * A growable list of ints.
+     */
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Binary snapshot implementation of AddressBookStorage, which loads much faster than JSON for large address books.
+ * The format is described in {@link BinaryAddressBookCodec}. JSON stays the format for importing and exporting
+ * address books; {@link AddressBookFormatConverter} converts between the two.
+ * <p>
+ * The snapshot is read through a memory-mapped file and written in full to a temporary file that then replaces it.
+ * As a snapshot is only ever written from a valid address book, it holds no invalid entries itself. Loading it reports
+ * those left out when it was converted from JSON, which are kept in an {@link InvalidEntriesFile} beside it until it
+ * is next saved.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final String JSON_EXTENSION = ".json";
+
+    // On Windows, a mapped file cannot be replaced until the mapping is garbage collected, failing the next save
+    private static final boolean IS_MAPPING_SAFE = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+    /**
+     * Returns the path of the snapshot kept for the JSON data file at {@code jsonFilePath}: the same path with a
+     * {@value #FILE_EXTENSION} extension instead of a {@code .json} one.
+     */
+    public static Path snapshotPathFor(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path file) throws DataLoadingException {
+        requireNonNull(file);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        logger.info("Binary snapshot " + file + " found.");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return Optional.of(BinaryAddressBookCodec.decode(readAll(channel)));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + file + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static ByteBuffer readAll(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot is too large to load (" + size + " bytes)");
+        }
+        if (IS_MAPPING_SAFE) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Snapshot ended early");
+            }
+        }
+        return buffer.flip();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path file) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(file);
+        write(BinaryAddressBookCodec.encode(addressBook), file);
+    }
+
+    /**
+     * Captures a save of {@code addressBook} by encoding it now, to be written when the save is.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        byte[] snapshot = BinaryAddressBookCodec.encode(addressBook);
+        return () -> write(snapshot, filePath);
+    }
+
+    private static void write(byte[] snapshot, Path file) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + StreamingAddressBookWriter.TEMP_FILE_SUFFIX);
+        try {
+            FileUtil.writeDurably(tempFile, snapshot);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        FileUtil.moveReplacing(tempFile, file);
+        InvalidEntriesFile.delete(file);
+    }
+
+    @Override
+    public LoadReport readAddressBookWithReport(Path file) throws DataLoadingException {
+        requireNonNull(file);
+        AddressBook addressBook = new AddressBook();
+        readAddressBook(file).ifPresent(addressBook::resetData);
+        return InvalidEntriesFile.addTo(new LoadReport(new LoadReport.ModelData(addressBook),
+                Collections.emptyList(), Collections.emptyList()), file);
+    }
+
+    /**
+     * Replaces the person at {@code index} of the snapshot, rewrites the snapshot and returns a fresh LoadReport.
+     */
+    @Override
+    public LoadReport overwriteRawEntryAtIndex(int index, Person person) throws DataLoadingException, IOException {
+        requireNonNull(person);
+        AddressBook addressBook = new AddressBook();
+        readAddressBook().ifPresent(addressBook::resetData);
+        if (index < 0 || index >= addressBook.getPersonList().size()) {
+            throw new IOException("Index out of bounds: " + index + " (size=" + addressBook.getPersonList().size()
+                    + ")");
+        }
+
+        addressBook.setPerson(addressBook.getPersonList().get(index), person);
+        saveAddressBook(addressBook);
+        return readAddressBookWithReport(filePath);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.storage.LoadReport.InvalidPersonEntry;
+import seedu.address.storage.LoadReport.InvalidPropertyEntry;
+
+/**
+ * The invalid entries left out when a JSON data file was converted to another data file format, kept in a JSON file
+ * beside the converted data file so that they can still be listed and fixed.
+ * <p>
+ * A JSON data file keeps its invalid entries until the address book is next saved, which writes only the valid ones.
+ * The entries kept here last as long: the storage of the converted data file deletes them once it saves. While they
+ * are kept, the converted data file therefore holds the same address book as the JSON data file it came from.
+ */
+final class InvalidEntriesFile {
+
+    static final String SUFFIX = ".invalid";
+
+    private InvalidEntriesFile() {}
+
+    /**
+     * Returns the path of the invalid entries kept for the data file at {@code dataFile}.
+     */
+    static Path pathFor(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Returns true if invalid entries are kept for the data file at {@code dataFile}.
+     */
+    static boolean exists(Path dataFile) {
+        return Files.exists(pathFor(dataFile));
+    }
+
+    /**
+     * Keeps the invalid entries of {@code report} for the data file at {@code dataFile}, or deletes those kept if it
+     * has none.
+     */
+    static void write(Path dataFile, LoadReport report) throws IOException {
+        requireNonNull(report);
+        if (report.getInvalids().isEmpty() && report.getInvalidPropertyEntries().isEmpty()) {
+            delete(dataFile);
+            return;
+        }
+        JsonUtil.saveJsonFile(new Entries(report.getInvalids(), report.getInvalidPropertyEntries()),
+                pathFor(dataFile));
+    }
+
+    /**
+     * Returns {@code report}, read from the data file at {@code dataFile}, with the invalid entries kept for that file
+     * added to its own.
+     *
+     * @throws DataLoadingException if the kept invalid entries could not be read.
+     */
+    static LoadReport addTo(LoadReport report, Path dataFile) throws DataLoadingException {
+        requireNonNull(report);
+        Optional<Entries> entries = JsonUtil.readJsonFile(pathFor(dataFile), Entries.class);
+        if (entries.isEmpty()) {
+            return report;
+        }
+        List<InvalidPersonEntry> persons = new ArrayList<>(report.getInvalids());
+        persons.addAll(entries.get().persons);
+        List<InvalidPropertyEntry> properties = new ArrayList<>(report.getInvalidPropertyEntries());
+        properties.addAll(entries.get().properties);
+        return new LoadReport(report.getModelData(), persons, properties);
+    }
+
+    /**
+     * Deletes the invalid entries kept for the data file at {@code dataFile}, as when it has been saved.
+     */
+    static void delete(Path dataFile) throws IOException {
+        Files.deleteIfExists(pathFor(dataFile));
+    }
+
+    /**
+     * Jackson-friendly list of the invalid entries kept for a data file.
+     */
+    static class Entries {
+        private final List<InvalidPersonEntry> persons;
+        private final List<InvalidPropertyEntry> properties;
+
+        /**
+         * Constructs an {@code Entries} with the given invalid person and property entries.
+         */
+        @JsonCreator
+        Entries(@JsonProperty("persons") List<InvalidPersonEntry> persons,
+                @JsonProperty("properties") List<InvalidPropertyEntry> properties) {
+            this.persons = persons == null ? List.of() : persons;
+            this.properties = properties == null ? List.of() : properties;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * Jackson-friendly version of one change recorded in an {@link AddressBookJournal}.
+ * <p>
+ * A change adds a record at a position of the persons or properties list, removes the record at a position, or
+ * replaces the record at a position. Positions are those of the list as it was just before the change.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    static final String OP_ADD = "add";
+    static final String OP_REMOVE = "remove";
+    static final String OP_SET = "set";
+
+    static final String LIST_PERSONS = "persons";
+    static final String LIST_PROPERTIES = "properties";
+
+    private final String op;
+    private final String list;
+    private final int index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedProperty property;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("list") String list,
+                                   @JsonProperty("index") int index,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("property") JsonAdaptedProperty property) {
+        this.op = op;
+        this.list = list;
+        this.index = index;
+        this.person = person;
+        this.property = property;
+    }
+
+    /**
+     * Returns an entry adding or replacing, as given by {@code op}, the person at {@code index}.
+     */
+    static JsonAdaptedJournalEntry ofPerson(String op, int index, Person person) {
+        return new JsonAdaptedJournalEntry(op, LIST_PERSONS, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry adding or replacing, as given by {@code op}, the property at {@code index}.
+     */
+    static JsonAdaptedJournalEntry ofProperty(String op, int index, Property property) {
+        return new JsonAdaptedJournalEntry(op, LIST_PROPERTIES, index, null, new JsonAdaptedProperty(property));
+    }
+
+    /**
+     * Returns an entry removing the record at {@code index} of the list named {@code list}.
+     */
+    static JsonAdaptedJournalEntry removal(String list, int index) {
+        return new JsonAdaptedJournalEntry(OP_REMOVE, list, index, null, null);
+    }
+
+    /**
+     * Applies this change to the raw records of an address book, or to lists standing in for them.
+     *
+     * @throws IllegalValueException if the change is malformed or its position does not exist in the list.
+     */
+    void applyTo(List<? super JsonAdaptedPerson> persons, List<? super JsonAdaptedProperty> properties)
+            throws IllegalValueException {
+        if (LIST_PERSONS.equals(list)) {
+            applyTo(persons, person);
+        } else if (LIST_PROPERTIES.equals(list)) {
+            applyTo(properties, property);
+        } else {
+            throw new IllegalValueException("Unknown journal list: " + list);
+        }
+    }
+
+    private <T> void applyTo(List<? super T> records, T record) throws IllegalValueException {
+        int size = records.size();
+        boolean isInserting = OP_ADD.equals(op);
+        if (index < 0 || index > size || (!isInserting && index == size)) {
+            throw new IllegalValueException("Journal position " + index + " is outside " + list + " (size=" + size
+                    + ")");
+        }
+        if (!isInserting && !OP_SET.equals(op) && !OP_REMOVE.equals(op)) {
+            throw new IllegalValueException("Unknown journal operation: " + op);
+        }
+        if (!OP_REMOVE.equals(op) && record == null) {
+            throw new IllegalValueException("Journal " + op + " on " + list + " has no record");
+        }
+
+        if (isInserting) {
+            records.add(index, record);
+        } else if (OP_SET.equals(op)) {
+            records.set(index, record);
+        } else {
+            records.remove(index);
+        }
+    }
+}
@@ -183,9 +183,7 @@ class JsonAdaptedPerson {
         final List<Property> resolvedOwned = new ArrayList<>();
         if (addressBook != null && !ownedProperties.isEmpty()) {
             for (String propName : ownedProperties) {
-                Property p = addressBook.getPropertyList().stream()
-                        .filter(pp -> pp.getPropertyName().toString().equals(propName))
-                        .findFirst()
+                Property p = addressBook.getPropertyByName(propName)
                         .orElseThrow(() ->
                                 new IllegalValueException(String.format(PROPERTY_NOT_FOUND_MESSAGE_FORMAT, propName)));
                 resolvedOwned.add(p);
@@ -196,9 +194,7 @@ class JsonAdaptedPerson {
         final List<Property> resolvedInterested = new ArrayList<>();
         if (addressBook != null && !interestedProperties.isEmpty()) {
             for (String propName : interestedProperties) {
-                Property p = addressBook.getPropertyList().stream()
-                        .filter(pp -> pp.getPropertyName().toString().equals(propName))
-                        .findFirst()
+                Property p = addressBook.getPropertyByName(propName)
                         .orElseThrow(() ->
                                 new IllegalValueException(String.format(PROPERTY_NOT_FOUND_MESSAGE_FORMAT, propName)));
                 resolvedInterested.add(p);
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -23,18 +24,47 @@ import seedu.address.model.person.Person;
 /**
  * JSON-backed implementation of AddressBookStorage.
  *
+ * The data file is read with a {@link StreamingAddressBookReader}, which converts records as it reads them, and
+ * written with a {@link StreamingAddressBookWriter}, which replaces the file only once the new one is complete.
+ *
  * Besides the usual read/write, this class offers:
  * - readAddressBookWithReport(Path): parse while collecting invalid entries;
  * - overwriteRawEntryAtIndex(int, Person): in-place JSON array element replacement.
+ *
+ * In journal mode, saving the address book that was last written in full appends its changes to an
+ * {@link AddressBookJournal} instead of rewriting the file. Reading the data file always replays any journal left
+ * beside it.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private final Path filePath;
+    private final boolean isJournaled;
+    private final boolean isCompact;
+    private final AddressBookJournal journal;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, saving changes to a journal beside it if
+     * {@code isJournaled}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isJournaled) {
+        this(filePath, isJournaled, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, saving changes to a journal beside it if
+     * {@code isJournaled}, and writing JSON without indentation if {@code isCompact}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isJournaled, boolean isCompact) {
         this.filePath = requireNonNull(filePath);
+        this.isJournaled = isJournaled;
+        this.isCompact = isCompact;
+        this.journal = new AddressBookJournal(filePath);
     }
 
     @Override
@@ -50,17 +80,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path file) throws DataLoadingException {
         requireNonNull(file);
-        Optional<JsonSerializableAddressBook> jsonAddressBook =
-                JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class);
-        if (jsonAddressBook.isEmpty()) {
+        Optional<LoadReport> report = streamWithJournal(file);
+        if (report.isEmpty()) {
             return Optional.empty();
         }
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+        if (!report.get().getInvalids().isEmpty()) {
+            String reason = report.get().getInvalids().get(0).reason();
+            logger.info("Illegal values found in " + file + ": " + reason);
+            throw new DataLoadingException(new IllegalValueException(reason));
         }
+        return Optional.of(report.get().getModelData().getAddressBook());
     }
 
     @Override
@@ -72,8 +101,77 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path file) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(file);
-        FileUtil.createIfMissing(file);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), file);
+        if (file.equals(filePath)) {
+            prepareSave(addressBook).write();
+            return;
+        }
+        StreamingAddressBookWriter.write(addressBook, file, isCompact);
+    }
+
+    /**
+     * Captures a save of {@code addressBook} to the data file. In journal mode this is only the changes made since
+     * {@code addressBook} was last saved, where possible. Otherwise, the address book is converted to its JSON form
+     * now, as its persons can change in place before the save is written, and streamed to the file when it is.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (isJournaled) {
+            Optional<PendingSave> append = journal.prepareAppend(addressBook);
+            if (append.isPresent()) {
+                return append.get();
+            }
+        }
+
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        int personCount = addressBook.getPersonList().size();
+        int propertyCount = addressBook.getPropertyList().size();
+        int journalGeneration = isJournaled ? journal.startTracking(addressBook) : 0;
+        return () -> {
+            try {
+                StreamingAddressBookWriter.write(snapshot, filePath, isCompact);
+                if (isJournaled) {
+                    journal.startJournal(journalGeneration, personCount, propertyCount);
+                } else {
+                    journal.discard();
+                }
+            } catch (IOException e) {
+                journal.requireFullWrite();
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Reads the JSON file at {@code file}, replaying the journal on top of it if {@code file} is the data file.
+     */
+    private Optional<JsonSerializableAddressBook> readJsonWithJournal(Path file) throws DataLoadingException {
+        Optional<JsonSerializableAddressBook> jsonAddressBook =
+                JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class);
+        if (jsonAddressBook.isEmpty() || !file.equals(filePath)) {
+            return jsonAddressBook;
+        }
+        return Optional.of(journal.replayOnto(jsonAddressBook.get()));
+    }
+
+    /**
+     * Reads the JSON file at {@code file} with a {@link StreamingAddressBookReader}, merging in the journal if
+     * {@code file} is the data file.
+     */
+    private Optional<LoadReport> streamWithJournal(Path file) throws DataLoadingException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + file + " found.");
+
+        Optional<AddressBookJournal.Changes> changes =
+                file.equals(filePath) ? journal.readChanges() : Optional.empty();
+        try {
+            return Optional.of(StreamingAddressBookReader.read(file, changes));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + file + ": " + e);
+            throw new DataLoadingException(e);
+        }
     }
 
     /**
@@ -86,22 +184,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     @Override
     public LoadReport readAddressBookWithReport(Path file) throws DataLoadingException {
         java.util.Objects.requireNonNull(file);
-        var jsonAddressBook = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class);
-
-        if (jsonAddressBook.isEmpty()) {
-            return new LoadReport(
-                    new LoadReport.ModelData(new seedu.address.model.AddressBook()),
-                    java.util.Collections.emptyList(),
-                    java.util.Collections.emptyList()
-            );
-        }
-
-        try {
-            return jsonAddressBook.get().toModelTypeWithReport();
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+        return streamWithJournal(file).orElseGet(() -> new LoadReport(
+                new LoadReport.ModelData(new seedu.address.model.AddressBook()),
+                java.util.Collections.emptyList(),
+                java.util.Collections.emptyList()
+        ));
     }
 
     /**
@@ -117,6 +204,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         final File file = filePath.toFile();
 
         FileUtil.createIfMissing(filePath);
+        foldJournalIntoDataFile();
 
         ObjectNode root;
         var node = mapper.readTree(file);
@@ -154,4 +242,22 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
         return readAddressBookWithReport(filePath);
     }
+
+    /**
+     * Rewrites the data file with any journal replayed onto it and removes the journal, so that the raw records in
+     * the file are current.
+     */
+    private void foldJournalIntoDataFile() throws IOException {
+        if (Files.exists(journal.getJournalPath())) {
+            try {
+                Optional<JsonSerializableAddressBook> current = readJsonWithJournal(filePath);
+                if (current.isPresent()) {
+                    StreamingAddressBookWriter.write(current.get(), filePath, isCompact);
+                }
+            } catch (DataLoadingException e) {
+                throw new IOException("Could not apply journal " + journal.getJournalPath(), e);
+            }
+        }
+        journal.discard();
+    }
 }
@@ -6,6 +6,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,7 +15,11 @@ import seedu.address.model.AddressBook;
 
 /**
  * An immutable AddressBook that is serializable to JSON format.
+ * <p>
+ * Properties are written before persons, so that a streaming reader has every property a person refers to by the
+ * time it reads the person.
  */
+@JsonPropertyOrder({"properties", "persons"})
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
@@ -48,6 +53,32 @@ class JsonSerializableAddressBook {
         properties.addAll(source.getPropertyList().stream().map(JsonAdaptedProperty::new).toList());
     }
 
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<JsonAdaptedProperty> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns a copy of this address book with {@code changes} applied in order. Applying stops at the first change
+     * that does not fit the records, which is logged.
+     */
+    JsonSerializableAddressBook withChanges(List<JsonAdaptedJournalEntry> changes) {
+        List<JsonAdaptedPerson> changedPersons = new ArrayList<>(persons);
+        List<JsonAdaptedProperty> changedProperties = new ArrayList<>(properties);
+        for (int i = 0; i < changes.size(); i++) {
+            try {
+                changes.get(i).applyTo(changedPersons, changedProperties);
+            } catch (IllegalValueException ive) {
+                LOGGER.warning("Stopping at journal entry " + (i + 1) + " as it does not apply: " + ive.getMessage());
+                break;
+            }
+        }
+        return new JsonSerializableAddressBook(changedPersons, changedProperties);
+    }
+
     /**
      * Converts this JSON-serializable address book into the model type while
      * generating a {@link LoadReport} that includes invalid entries for both
@@ -56,124 +87,11 @@ class JsonSerializableAddressBook {
      * @return load report with model snapshot and invalid entries
      */
     public LoadReport toModelTypeWithReport() throws seedu.address.commons.exceptions.IllegalValueException {
-        AddressBook model = new AddressBook();
-        java.util.List<LoadReport.InvalidPersonEntry> invalidPersons = new java.util.ArrayList<>();
-        java.util.List<LoadReport.InvalidPropertyEntry> invalidProps = new java.util.ArrayList<>();
-
-        for (int i = 0; i < properties.size(); i++) {
-            JsonAdaptedProperty jap = properties.get(i);
-            try {
-                seedu.address.model.property.Property prop = jap.toModelType();
-                if (model.hasProperty(prop)) {
-                    invalidProps.add(new LoadReport.InvalidPropertyEntry(
-                            i,
-                            MESSAGE_DUPLICATE_PROPERTY,
-                            jap.getAddress(),
-                            jap.getPrice(),
-                            jap.getName(),
-                            java.util.Set.of("propertyName")
-                    ));
-                    continue;
-                }
-                model.addProperty(prop);
-            } catch (seedu.address.commons.exceptions.IllegalValueException ive) {
-                java.util.Set<String> keys = jap.invalidFieldKeys();
-                String reason = ive.getMessage() == null ? "Invalid property" : ive.getMessage();
-                invalidProps.add(new LoadReport.InvalidPropertyEntry(
-                        i,
-                        reason,
-                        jap.getAddress(),
-                        jap.getPrice(),
-                        jap.getName(),
-                        keys
-                ));
-            }
-        }
-
-        java.util.Map<Integer, seedu.address.model.person.Person> indexToPerson = new java.util.LinkedHashMap<>();
-        for (int i = 0; i < persons.size(); i++) {
-            JsonAdaptedPerson jap = persons.get(i);
-            try {
-                seedu.address.model.person.Person p = jap.toModelType(model);
-                if (model.hasPerson(p)) {
-                    invalidPersons.add(new LoadReport.InvalidPersonEntry(
-                            i,
-                            MESSAGE_DUPLICATE_PERSON,
-                            jap.getName(),
-                            jap.getPhone(),
-                            jap.getEmail(),
-                            jap.getAddress(),
-                            java.util.Set.of()
-                    ));
-                    continue;
-                }
-                model.addPerson(p);
-                indexToPerson.put(i, p);
-            } catch (seedu.address.commons.exceptions.IllegalValueException ive) {
-                String reason = ive.getMessage() == null ? "Invalid person" : ive.getMessage();
-                invalidPersons.add(new LoadReport.InvalidPersonEntry(
-                        i,
-                        reason,
-                        jap.getName(),
-                        jap.getPhone(),
-                        jap.getEmail(),
-                        jap.getAddress(),
-                        jap.invalidFieldKeys()
-                ));
-            }
-        }
-
-        java.util.Map<String, seedu.address.model.property.Property> propertyByName = new java.util.LinkedHashMap<>();
-        for (seedu.address.model.property.Property p : model.getPropertyList()) {
-            propertyByName.put(p.getPropertyName().toString(), p);
-        }
-
-        for (int i = 0; i < persons.size(); i++) {
-            seedu.address.model.person.Person base = indexToPerson.get(i);
-            if (base == null) {
-                continue;
-            }
-            JsonAdaptedPerson jap = persons.get(i);
-            java.util.List<String> ownedNames = jap.getOwnedProperties();
-            java.util.List<String> interestedNames = jap.getInterestedProperties();
-            java.util.List<seedu.address.model.property.Property> resolvedOwned = new java.util.ArrayList<>();
-            java.util.List<seedu.address.model.property.Property> resolvedInterested = new java.util.ArrayList<>();
-            java.util.List<String> unknowns = new java.util.ArrayList<>();
-
-            for (String n : ownedNames) {
-                var prop = propertyByName.get(n);
-                if (prop != null) {
-                    resolvedOwned.add(prop);
-                } else {
-                    unknowns.add(n);
-                }
-            }
-            for (String n : interestedNames) {
-                var prop = propertyByName.get(n);
-                if (prop != null) {
-                    resolvedInterested.add(prop);
-                } else {
-                    unknowns.add(n);
-                }
-            }
-
-            seedu.address.model.person.Person replaced = new seedu.address.model.person.Person(
-                    base.getName(), base.getPhone(), base.getEmail(), base.getAddress(),
-                    base.getTags(), resolvedOwned, resolvedInterested
-            );
-            model.setPerson(base, replaced);
-
-            if (!unknowns.isEmpty()) {
-                invalidPersons.add(new LoadReport.InvalidPersonEntry(
-                        i,
-                        "Unknown properties: " + String.join(", ", unknowns),
-                        jap.getName(), jap.getPhone(), jap.getEmail(), jap.getAddress(),
-                        java.util.Set.of("properties")
-                ));
-            }
-        }
-
-        return new LoadReport(new LoadReport.ModelData(model), invalidPersons, invalidProps);
+        AddressBookLoader loader = new AddressBookLoader();
+        properties.forEach(loader::addProperty);
+        loader.endProperties();
+        persons.forEach(loader::addPerson);
+        return loader.finish();
     }
 
     /**
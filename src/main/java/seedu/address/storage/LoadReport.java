@@ -5,8 +5,12 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import seedu.address.model.AddressBook;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -77,6 +81,33 @@ public final class LoadReport {
         return invalidProperties;
     }
 
+    /**
+     * Returns a copy of this report without the invalid person entries at {@code index}, as when that entry was fixed.
+     * The model data is shared with this report.
+     *
+     * @param index zero-based index in the persons array
+     * @return report without those entries
+     */
+    public LoadReport withoutInvalidPersonsAt(int index) {
+        List<InvalidPersonEntry> remaining = new ArrayList<>(invalids.size());
+        for (InvalidPersonEntry entry : invalids) {
+            if (entry.index() != index) {
+                remaining.add(entry);
+            }
+        }
+        return new LoadReport(modelData, remaining, invalidProperties);
+    }
+
+    /**
+     * Returns a copy of this report with empty model data, keeping only the invalid entries, so that the report can
+     * be kept without keeping the address book it was loaded into.
+     *
+     * @return report with the same invalid entries and no valid data
+     */
+    public LoadReport withoutModelData() {
+        return new LoadReport(new ModelData(new AddressBook()), invalids, invalidProperties);
+    }
+
     /**
      * Generates a LoadReport from a full AddressBook model.
      * Valid persons are kept in the modelData snapshot; invalid ones are reported.
@@ -169,6 +200,7 @@ public final class LoadReport {
         private final String email;
         private final String address;
         private final Set<String> invalidFields;
+        private final Integer duplicateOf;
 
         /**
          * Constructs an {@code InvalidPersonEntry}.
@@ -188,6 +220,30 @@ public final class LoadReport {
                                   String email,
                                   String address,
                                   Set<String> invalidFields) {
+            this(index, reason, name, phone, email, address, invalidFields, null);
+        }
+
+        /**
+         * Constructs an {@code InvalidPersonEntry} for a person that duplicates an earlier entry.
+         *
+         * @param index zero-based index in the persons array
+         * @param reason human-readable summary of invalidity
+         * @param name original name string
+         * @param phone original phone string
+         * @param email original email string
+         * @param address original address string
+         * @param invalidFields set of invalid field keys
+         * @param duplicateOf zero-based index of the earlier person this entry duplicates, or null if not a duplicate
+         */
+        @JsonCreator
+        public InvalidPersonEntry(@JsonProperty("index") int index,
+                                  @JsonProperty("reason") String reason,
+                                  @JsonProperty("name") String name,
+                                  @JsonProperty("phone") String phone,
+                                  @JsonProperty("email") String email,
+                                  @JsonProperty("address") String address,
+                                  @JsonProperty("invalidFields") Set<String> invalidFields,
+                                  @JsonProperty("duplicateOf") Integer duplicateOf) {
             this.index = index;
             this.reason = reason;
             this.name = name;
@@ -195,6 +251,7 @@ public final class LoadReport {
             this.email = email;
             this.address = address;
             this.invalidFields = invalidFields;
+            this.duplicateOf = duplicateOf;
         }
 
         /**
@@ -251,6 +308,15 @@ public final class LoadReport {
             return address;
         }
 
+        /**
+         * Returns the index of the earlier entry this entry duplicates, if it was rejected as a duplicate.
+         *
+         * @return index of the duplicated entry
+         */
+        public Optional<Integer> duplicateOf() {
+            return Optional.ofNullable(duplicateOf);
+        }
+
         /**
          * Returns the set of invalid field keys.
          *
@@ -281,6 +347,7 @@ public final class LoadReport {
         private final Integer price;
         private final String propertyName;
         private final Set<String> invalidFields;
+        private final Integer duplicateOf;
 
         /**
          * Constructs an {@code InvalidPropertyEntry}.
@@ -298,12 +365,35 @@ public final class LoadReport {
                                     Integer price,
                                     String propertyName,
                                     Set<String> invalidFields) {
+            this(index, reason, address, price, propertyName, invalidFields, null);
+        }
+
+        /**
+         * Constructs an {@code InvalidPropertyEntry} for a property that duplicates an earlier entry.
+         *
+         * @param index zero-based index in the properties array
+         * @param reason human-readable summary of invalidity
+         * @param address original address string
+         * @param price original price value
+         * @param propertyName original property name string
+         * @param invalidFields set of invalid field keys among {"propertyName","address","price"}
+         * @param duplicateOf zero-based index of the earlier property this entry duplicates, or null if not a duplicate
+         */
+        @JsonCreator
+        public InvalidPropertyEntry(@JsonProperty("index") int index,
+                                    @JsonProperty("reason") String reason,
+                                    @JsonProperty("address") String address,
+                                    @JsonProperty("price") Integer price,
+                                    @JsonProperty("propertyName") String propertyName,
+                                    @JsonProperty("invalidFields") Set<String> invalidFields,
+                                    @JsonProperty("duplicateOf") Integer duplicateOf) {
             this.index = index;
             this.reason = reason;
             this.address = address;
             this.price = price;
             this.propertyName = propertyName;
             this.invalidFields = invalidFields;
+            this.duplicateOf = duplicateOf;
         }
 
         /**
@@ -351,6 +441,15 @@ public final class LoadReport {
             return propertyName;
         }
 
+        /**
+         * Returns the index of the earlier entry this entry duplicates, if it was rejected as a duplicate.
+         *
+         * @return index of the duplicated entry
+         */
+        public Optional<Integer> duplicateOf() {
+            return Optional.ofNullable(duplicateOf);
+        }
+
         /**
          * Returns the set of invalid field keys.
          *
@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save of the address book, captured on the thread that changed it, that is written to disk when {@link #write()}
+ * is called, possibly later and on another thread.
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes this save to disk.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns true if writing this save makes writing any save captured before it unnecessary, as when it holds the
+     * whole address book rather than the changes since the previous save.
+     */
+    default boolean supersedesEarlierSaves() {
+        return true;
+    }
+}
@@ -0,0 +1,316 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+import seedu.address.storage.AddressBookSegments.EncodedSegment;
+import seedu.address.storage.AddressBookSegments.Manifest;
+import seedu.address.storage.AddressBookSegments.Segment;
+
+/**
+ * Segmented JSON implementation of AddressBookStorage, which keeps the properties and each range of
+ * {@code segmentSize} persons in a file of their own, listed by a manifest. The layout is described in
+ * {@link AddressBookSegments}.
+ * <p>
+ * After a full save, this storage tracks the saved address book instance, noting which segments its changes fall in.
+ * Saving the same instance again rewrites only those segments and the manifest, so that editing one person writes a
+ * few kilobytes however large the address book is. Adding or removing a person shifts the persons after it, so every
+ * segment from its position on is rewritten. A full save converts every segment, but still only writes those whose
+ * checksum changed.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 256;
+
+    public static final String DIRECTORY_SUFFIX = ".segments";
+    private static final String JSON_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int segmentSize;
+    private final Object writeLock = new Object();
+
+    private final ListChangeListener<Person> personListener = this::recordPersonChange;
+    private final ListChangeListener<Property> propertyListener = change -> recordPropertyChange();
+
+    private ReadOnlyAddressBook tracked;
+    private final BitSet dirtyPersonSegments = new BitSet();
+    private int dirtyPersonSegmentsFrom = Integer.MAX_VALUE;
+    private boolean isPropertiesDirty;
+    private boolean needsFullWrite;
+    private int generation;
+    private int failedGeneration = -1;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a storage for the address book whose manifest is at {@code filePath}, keeping {@code segmentSize}
+     * persons to a segment.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentSize);
+        }
+        this.filePath = requireNonNull(filePath);
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the path of the manifest of the segmented address book kept for the JSON data file at
+     * {@code jsonFilePath}: {@code manifest.json} in a directory beside it with the same name and a
+     * {@value #DIRECTORY_SUFFIX} extension instead of a {@code .json} one.
+     */
+    public static Path manifestPathFor(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + DIRECTORY_SUFFIX)
+                .resolve(AddressBookSegments.MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path file) throws DataLoadingException {
+        requireNonNull(file);
+        Optional<LoadReport> report = readSegments(file);
+        if (report.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!report.get().getInvalids().isEmpty()) {
+            String reason = report.get().getInvalids().get(0).reason();
+            logger.info("Illegal values found in " + file + ": " + reason);
+            throw new DataLoadingException(new IllegalValueException(reason));
+        }
+        return Optional.of(report.get().getModelData().getAddressBook());
+    }
+
+    private Optional<LoadReport> readSegments(Path file) throws DataLoadingException {
+        try {
+            Optional<Manifest> manifest = AddressBookSegments.readManifest(file);
+            if (manifest.isEmpty()) {
+                return Optional.empty();
+            }
+            logger.info("Segmented address book " + file + " found.");
+
+            AddressBookLoader loader = new AddressBookLoader();
+            AddressBookSegments.readInto(loader, file, manifest.get());
+            return Optional.of(loader.finish());
+        } catch (IOException e) {
+            logger.warning("Error reading from segmented address book " + file + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        prepareSave(addressBook).write();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path file) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(file);
+        if (file.equals(filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        List<EncodedSegment> persons = encodePersonSegments(addressBook, new BitSet(), 0);
+        Manifest current = AddressBookSegments.readManifest(file).orElse(null);
+        AddressBookSegments.commit(file, current, segmentSize,
+                AddressBookSegments.encodeProperties(addressBook.getPropertyList()), persons);
+    }
+
+    /**
+     * Captures a save of {@code addressBook} by converting the segments to write now, as its persons can change in
+     * place before the save is written. If {@code addressBook} is the tracked address book, these are only the
+     * segments it changed since its last save. Otherwise, it is converted in full and tracked from now on.
+     */
+    @Override
+    public synchronized PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        boolean isFull = addressBook != tracked || needsFullWrite;
+        if (isFull) {
+            startTracking(addressBook);
+        }
+
+        EncodedSegment properties = isFull || isPropertiesDirty
+                ? AddressBookSegments.encodeProperties(addressBook.getPropertyList())
+                : null;
+        List<EncodedSegment> persons = isFull
+                ? encodePersonSegments(addressBook, new BitSet(), 0)
+                : encodePersonSegments(addressBook, dirtyPersonSegments, dirtyPersonSegmentsFrom);
+        clearDirtySegments();
+
+        int saveGeneration = generation;
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                writeSegments(saveGeneration, properties, persons);
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return isFull;
+            }
+        };
+    }
+
+    /**
+     * Converts the person segments of {@code addressBook} that are dirty, as given by {@code dirty} and
+     * {@code dirtyFrom}, leaving the others null.
+     */
+    private List<EncodedSegment> encodePersonSegments(ReadOnlyAddressBook addressBook, BitSet dirty, int dirtyFrom)
+            throws IOException {
+        List<Person> personList = addressBook.getPersonList();
+        int segmentCount = (personList.size() + segmentSize - 1) / segmentSize;
+        List<EncodedSegment> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            if (i >= dirtyFrom || dirty.get(i)) {
+                int from = i * segmentSize;
+                int to = Math.min(from + segmentSize, personList.size());
+                segments.add(AddressBookSegments.encodePersons(personList.subList(from, to)));
+            } else {
+                segments.add(null);
+            }
+        }
+        return segments;
+    }
+
+    private void writeSegments(int saveGeneration, EncodedSegment properties, List<EncodedSegment> persons)
+            throws IOException {
+        synchronized (this) {
+            if (saveGeneration == failedGeneration) {
+                // An earlier save of these changes failed; the full save asked for instead covers them
+                return;
+            }
+        }
+        synchronized (writeLock) {
+            try {
+                Manifest current = AddressBookSegments.readManifest(filePath).orElse(null);
+                AddressBookSegments.commit(filePath, current, segmentSize, properties, persons);
+            } catch (IOException e) {
+                requireFullWrite(saveGeneration);
+                throw e;
+            }
+        }
+    }
+
+    private synchronized void requireFullWrite(int saveGeneration) {
+        needsFullWrite = true;
+        failedGeneration = saveGeneration;
+    }
+
+    private void startTracking(ReadOnlyAddressBook addressBook) {
+        if (tracked != null) {
+            tracked.getPersonList().removeListener(personListener);
+            tracked.getPropertyList().removeListener(propertyListener);
+        }
+        tracked = addressBook;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getPropertyList().addListener(propertyListener);
+        needsFullWrite = false;
+        generation++;
+    }
+
+    private void clearDirtySegments() {
+        dirtyPersonSegments.clear();
+        dirtyPersonSegmentsFrom = Integer.MAX_VALUE;
+        isPropertiesDirty = false;
+    }
+
+    /**
+     * Marks the segments that {@code change} falls in as dirty. A change that adds or removes persons shifts the
+     * persons after it into other segments, so every segment from its position on is marked.
+     */
+    private synchronized void recordPersonChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasUpdated()) {
+                dirtyPersonSegments.set(from / segmentSize, (change.getTo() - 1) / segmentSize + 1);
+            } else if (!change.wasPermutated() && change.getAddedSize() == change.getRemovedSize()) {
+                dirtyPersonSegments.set(from / segmentSize, (from + change.getAddedSize() - 1) / segmentSize + 1);
+            } else {
+                dirtyPersonSegmentsFrom = Math.min(dirtyPersonSegmentsFrom, from / segmentSize);
+            }
+        }
+    }
+
+    private synchronized void recordPropertyChange() {
+        isPropertiesDirty = true;
+    }
+
+    @Override
+    public LoadReport readAddressBookWithReport(Path file) throws DataLoadingException {
+        requireNonNull(file);
+        LoadReport report = readSegments(file).orElseGet(() -> new LoadReport(
+                new LoadReport.ModelData(new AddressBook()), Collections.emptyList(), Collections.emptyList()));
+        // The invalid entries left out when the segments were converted from JSON, until they are next saved
+        return InvalidEntriesFile.addTo(report, file);
+    }
+
+    /**
+     * Replaces the raw person record at {@code index}, counting across all person segments, rewrites the segment
+     * holding it and the manifest, then re-reads and returns a fresh LoadReport.
+     */
+    @Override
+    public LoadReport overwriteRawEntryAtIndex(int index, Person person) throws DataLoadingException, IOException {
+        requireNonNull(person);
+        synchronized (writeLock) {
+            Manifest current = AddressBookSegments.readManifest(filePath)
+                    .orElseThrow(() -> new IOException("No segmented address book at " + filePath));
+
+            List<Segment> segments = current.getPersonSegments();
+            int size = segments.stream().mapToInt(Segment::getCount).sum();
+            if (index < 0 || index >= size) {
+                throw new IOException("Index out of bounds: " + index + " (size=" + size + ")");
+            }
+            int offset = index;
+            int segmentIndex = 0;
+            while (offset >= segments.get(segmentIndex).getCount()) {
+                offset -= segments.get(segmentIndex).getCount();
+                segmentIndex++;
+            }
+
+            JsonSerializableAddressBook records = AddressBookSegments.readSegment(filePath,
+                    segments.get(segmentIndex));
+            records.replaceAt(offset, new JsonAdaptedPerson(person));
+            List<EncodedSegment> persons = new ArrayList<>(Collections.nCopies(segments.size(), null));
+            persons.set(segmentIndex, AddressBookSegments.encode(records));
+            AddressBookSegments.commit(filePath, current, current.getSegmentSize(), null, persons);
+        }
+        synchronized (this) {
+            // The segments no longer hold what the tracked address book last saved
+            needsFullWrite = true;
+        }
+        return readAddressBookWithReport(filePath);
+    }
+}
@@ -37,6 +37,21 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Waits until the address book saves made in the background so far have been written, and throws the failure of
+     * any that failed. Storages that save synchronously have nothing to wait for.
+     */
+    default void flushAddressBook() throws IOException {
+    }
+
+    /**
+     * Returns the failure of the latest address book save made in the background that failed since the last call,
+     * if any.
+     */
+    default Optional<IOException> takeBackgroundSaveFailure() {
+        return Optional.empty();
+    }
+
     /**
      * Reads the address book and returns a {@link LoadReport} that includes:
      *  - the successfully parsed model snapshot; and
@@ -49,6 +64,33 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
      */
     LoadReport readAddressBookWithReport() throws DataLoadingException;
 
+    /**
+     * Returns the {@link LoadReport} of the data file as {@link #readAddressBookWithReport()} last read it, less the
+     * invalid entries fixed since, without reading the file again. The file is read only if it has not been read with
+     * a report yet. The report may have empty model data, as only its invalid entries are meant to be used.
+     *
+     * @throws DataLoadingException if the file had to be read and I/O or JSON decoding failed outright.
+     */
+    default LoadReport getLoadReport() throws DataLoadingException {
+        return readAddressBookWithReport();
+    }
+
+    /**
+     * Keeps {@code report} as the report returned by {@link #getLoadReport()}, as when the data file was not read with
+     * a report, so that it is not read just to find its invalid entries.
+     */
+    default void keepLoadReport(LoadReport report) {
+    }
+
+    /**
+     * Marks the invalid person entries at {@code index} in the report kept by {@link #getLoadReport()} as fixed, so
+     * that they are no longer reported.
+     *
+     * @param index zero-based index in the JSON "persons" array
+     */
+    default void resolveInvalidPersons(int index) {
+    }
+
     /**
      * Overwrites the raw JSON record at the given zero-based index with the given Person,
      * preserving the array order and all other records. This enables "in-place" correction
@@ -14,19 +14,37 @@ import seedu.address.model.UserPrefs;
 /**
  * Coordinates reading/writing of both AddressBook data and UserPrefs.
  * This class mostly delegates to concrete storage implementations.
+ *
+ * The invalid entries of the last read of the data file with a report are kept, less those fixed since, so that
+ * they can be listed and fixed without reading the file again.
+ *
+ * With write-behind enabled, {@link #saveAddressBook(ReadOnlyAddressBook)} only captures the save and leaves the
+ * writing to a {@link WriteBehindSaver}. Other operations on the data file first wait for those saves to be written.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final WriteBehindSaver saver;
+    private LoadReport loadReport;
 
     /**
      * Constructs a StorageManager with the provided storage implementations.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Constructs a StorageManager with the provided storage implementations, saving the address book on a
+     * background thread if {@code isWriteBehind}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saver = isWriteBehind ? new WriteBehindSaver() : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,20 +79,52 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
+        awaitBackgroundSaves();
         return addressBookStorage.readAddressBook(filePath);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (saver == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+        logger.fine("Queueing write to data file: " + addressBookStorage.getAddressBookFilePath());
+        saver.submit(addressBookStorage.prepareSave(addressBook));
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        awaitBackgroundSaves();
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        return addressBookStorage.prepareSave(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        awaitBackgroundSaves();
+        Optional<IOException> failure = takeBackgroundSaveFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    @Override
+    public Optional<IOException> takeBackgroundSaveFailure() {
+        return saver == null ? Optional.empty() : saver.takeFailure();
+    }
+
+    private void awaitBackgroundSaves() {
+        if (saver != null) {
+            saver.awaitWritten();
+        }
+    }
+
     /**
      * Reads data and also returns information about invalid entries collected during parse.
      */
@@ -82,21 +132,47 @@ public class StorageManager implements Storage {
     public LoadReport readAddressBookWithReport() throws DataLoadingException {
         Path path = addressBookStorage.getAddressBookFilePath();
         logger.fine("Attempting to read data (with report) from file: " + path);
-        return addressBookStorage.readAddressBookWithReport(path);
+        awaitBackgroundSaves();
+        LoadReport report = addressBookStorage.readAddressBookWithReport(path);
+        // The model holds its own copy of the valid data, so only the invalid entries are kept
+        loadReport = report.withoutModelData();
+        return report;
     }
 
     @Override
     public LoadReport readAddressBookWithReport(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data (with report) from file: " + filePath);
+        awaitBackgroundSaves();
         return addressBookStorage.readAddressBookWithReport(filePath);
     }
 
+    @Override
+    public LoadReport getLoadReport() throws DataLoadingException {
+        if (loadReport == null) {
+            readAddressBookWithReport();
+        }
+        return loadReport;
+    }
+
+    @Override
+    public void keepLoadReport(LoadReport report) {
+        loadReport = report.withoutModelData();
+    }
+
+    @Override
+    public void resolveInvalidPersons(int index) {
+        if (loadReport != null) {
+            loadReport = loadReport.withoutInvalidPersonsAt(index);
+        }
+    }
+
     /**
      * In-place overwrite of a single raw JSON entry, then return a fresh LoadReport.
      */
     @Override
     public LoadReport overwriteRawEntryAtIndex(int index, seedu.address.model.person.Person person)
             throws seedu.address.commons.exceptions.DataLoadingException, java.io.IOException {
+        awaitBackgroundSaves();
         return addressBookStorage.overwriteRawEntryAtIndex(index, person);
     }
 }
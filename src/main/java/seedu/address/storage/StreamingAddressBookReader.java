@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Reads an address book data file one token at a time, converting each person and property to its model form as
+ * soon as it has been read, rather than reading the whole file into a string and binding it to a
+ * {@link JsonSerializableAddressBook} first. Apart from the address book being built, only the record being read is
+ * held, except for persons that come before the properties in the file, which are kept until the properties have
+ * been read.
+ * <p>
+ * Changes from an {@link AddressBookJournal} are merged in while reading. Each list is read against the sequence of
+ * records it holds once the changes are applied, in which a record is either the position of a record in the file
+ * or a record from the journal. Records of the file that were since removed or replaced are skipped unread.
+ */
+class StreamingAddressBookReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(StreamingAddressBookReader.class);
+
+    private final JsonParser parser;
+    private final AddressBookLoader loader = new AddressBookLoader();
+    private final List<Object> personSequence;
+    private final List<Object> propertySequence;
+
+    private StreamingAddressBookReader(JsonParser parser, List<Object> personSequence,
+                                       List<Object> propertySequence) {
+        this.parser = parser;
+        this.personSequence = personSequence;
+        this.propertySequence = propertySequence;
+    }
+
+    /**
+     * Reads the address book in {@code file}, with {@code changes} applied if present.
+     *
+     * @throws IOException if the file could not be read or is not an address book.
+     */
+    static LoadReport read(Path file, Optional<AddressBookJournal.Changes> changes) throws IOException {
+        requireNonNull(file);
+        requireNonNull(changes);
+        List<Object> personSequence = null;
+        List<Object> propertySequence = null;
+        if (changes.isPresent()) {
+            personSequence = positions(changes.get().personCount);
+            propertySequence = positions(changes.get().propertyCount);
+            applyChanges(changes.get().entries, personSequence, propertySequence);
+        }
+
+        try (InputStream in = new BufferedInputStream(Channels.newInputStream(FileChannel.open(file)), BUFFER_SIZE);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            return new StreamingAddressBookReader(parser, personSequence, propertySequence).readAddressBook();
+        }
+    }
+
+    private static List<Object> positions(int count) {
+        List<Object> positions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            positions.add(i);
+        }
+        return positions;
+    }
+
+    /**
+     * Applies {@code entries} in order, stopping at the first one that does not fit, as
+     * {@link JsonSerializableAddressBook#withChanges} does.
+     */
+    private static void applyChanges(List<JsonAdaptedJournalEntry> entries, List<Object> personSequence,
+                                     List<Object> propertySequence) {
+        for (int i = 0; i < entries.size(); i++) {
+            try {
+                entries.get(i).applyTo(personSequence, propertySequence);
+            } catch (IllegalValueException ive) {
+                logger.warning("Stopping at journal entry " + (i + 1) + " as it does not apply: " + ive.getMessage());
+                return;
+            }
+        }
+    }
+
+    private LoadReport readAddressBook() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book is not a JSON object");
+        }
+
+        Set<String> listsRead = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            boolean isList = field.equals(JsonAdaptedJournalEntry.LIST_PERSONS)
+                    || field.equals(JsonAdaptedJournalEntry.LIST_PROPERTIES);
+            if (!isList) {
+                parser.skipChildren();
+                continue;
+            }
+            if (!listsRead.add(field)) {
+                throw new JsonParseException(parser, "Address book has more than one '" + field + "' list");
+            }
+            if (value != JsonToken.START_ARRAY && value != JsonToken.VALUE_NULL) {
+                throw new JsonParseException(parser, "'" + field + "' is not a JSON array");
+            }
+
+            if (field.equals(JsonAdaptedJournalEntry.LIST_PERSONS)) {
+                readList(value, JsonAdaptedPerson.class, personSequence, loader::addPerson);
+            } else {
+                readList(value, JsonAdaptedProperty.class, propertySequence, loader::addProperty);
+                loader.endProperties();
+            }
+        }
+
+        // A journal can add records to a list the file does not have
+        if (!listsRead.contains(JsonAdaptedJournalEntry.LIST_PROPERTIES)) {
+            readList(JsonToken.VALUE_NULL, JsonAdaptedProperty.class, propertySequence, loader::addProperty);
+        }
+        if (!listsRead.contains(JsonAdaptedJournalEntry.LIST_PERSONS)) {
+            readList(JsonToken.VALUE_NULL, JsonAdaptedPerson.class, personSequence, loader::addPerson);
+        }
+        return loader.finish();
+    }
+
+    /**
+     * Hands the records of the list starting at {@code start} to {@code sink} in order, merged with the records
+     * from the journal given by {@code sequence}, if any.
+     */
+    private <T> void readList(JsonToken start, Class<T> type, List<Object> sequence, Consumer<T> sink)
+            throws IOException {
+        int next = 0;
+        int position = 0;
+        while (start == JsonToken.START_ARRAY && parser.nextToken() != JsonToken.END_ARRAY) {
+            if (sequence == null) {
+                sink.accept(readRecord(type));
+                continue;
+            }
+
+            next = takeJournalRecords(type, sequence, next, sink);
+            if (next < sequence.size() && sequence.get(next).equals(position)) {
+                sink.accept(readRecord(type));
+                next++;
+            } else {
+                parser.skipChildren();
+            }
+            position++;
+        }
+
+        if (sequence != null) {
+            next = takeJournalRecords(type, sequence, next, sink);
+            if (next < sequence.size()) {
+                throw new JsonParseException(parser, "Data file has fewer records than its journal expects");
+            }
+        }
+    }
+
+    private <T> int takeJournalRecords(Class<T> type, List<Object> sequence, int next, Consumer<T> sink) {
+        int i = next;
+        while (i < sequence.size() && type.isInstance(sequence.get(i))) {
+            sink.accept(type.cast(sequence.get(i)));
+            i++;
+        }
+        return i;
+    }
+
+    private <T> T readRecord(Class<T> type) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object for a " + type.getSimpleName());
+        }
+        return JsonUtil.readValue(parser, type);
+    }
+}
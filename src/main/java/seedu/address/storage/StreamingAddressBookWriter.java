@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * Writes an address book data file one record at a time through a streaming JSON generator, rather than building
+ * the whole document as a string first. Records of a {@link ReadOnlyAddressBook} are converted to their JSON form
+ * one at a time as they are written.
+ * <p>
+ * The file is written to a temporary file beside it, which is forced to disk and then replaces it in one move, so
+ * that a failed write or a crash leaves the previous file in place. The output is indented unless written in compact
+ * mode.
+ */
+class StreamingAddressBookWriter {
+
+    static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes {@code addressBook} to {@code file}, straight from the model.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path file, boolean isCompact) throws IOException {
+        write(addressBook, file, isCompact, channel -> channel.force(true));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code file}, straight from the model, forcing the temporary file to disk with
+     * {@code sync} once all of it has been written to its channel.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path file, boolean isCompact, ChannelSync sync)
+            throws IOException {
+        requireNonNull(addressBook);
+        write(file, isCompact, sync, generator -> {
+            for (Property property : addressBook.getPropertyList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedProperty(property));
+            }
+        }, generator -> {
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+        });
+    }
+
+    /**
+     * Writes {@code snapshot}, an address book already converted to its JSON form, to {@code file}.
+     */
+    static void write(JsonSerializableAddressBook snapshot, Path file, boolean isCompact) throws IOException {
+        requireNonNull(snapshot);
+        write(file, isCompact, channel -> channel.force(true), generator -> {
+            for (JsonAdaptedProperty property : snapshot.getProperties()) {
+                JsonUtil.writeValue(generator, property);
+            }
+        }, generator -> {
+            for (JsonAdaptedPerson person : snapshot.getPersons()) {
+                JsonUtil.writeValue(generator, person);
+            }
+        });
+    }
+
+    private static void write(Path file, boolean isCompact, ChannelSync sync, RecordWriter properties,
+            RecordWriter persons) throws IOException {
+        requireNonNull(file);
+        requireNonNull(sync);
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+                // Same order as JsonSerializableAddressBook, so that readers see properties before persons
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(JsonAdaptedJournalEntry.LIST_PROPERTIES);
+                properties.writeTo(generator);
+                generator.writeEndArray();
+                generator.writeArrayFieldStart(JsonAdaptedJournalEntry.LIST_PERSONS);
+                persons.writeTo(generator);
+                generator.writeEndArray();
+                generator.writeEndObject();
+                // Closing the generator closes the channel, so the file is forced to disk before that. The
+                // generator does not pass its flush on to the stream, whose buffer is flushed separately.
+                generator.flush();
+                out.flush();
+                sync.force(channel);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        FileUtil.moveReplacing(tempFile, file);
+    }
+
+    /**
+     * Writes the records of one list as the elements of the array the generator is in.
+     */
+    @FunctionalInterface
+    private interface RecordWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Forces the channel of a written temporary file to disk.
+     */
+    @FunctionalInterface
+    interface ChannelSync {
+        void force(FileChannel channel) throws IOException;
+    }
+}
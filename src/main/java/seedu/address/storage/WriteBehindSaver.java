@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes {@link PendingSave}s on a single background thread, in the order they were submitted.
+ * <p>
+ * Saves submitted while an earlier one is being written wait in a queue, where a save that supersedes earlier saves
+ * discards those still waiting, so a burst of changes leads to one full write. The failure of a save is kept until
+ * taken with {@link #takeFailure()}, so that it can be reported to the user.
+ */
+class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Deque<PendingSave> queue = new ArrayDeque<>();
+    private boolean isWriting;
+    private IOException failure;
+
+    /**
+     * Queues {@code save} to be written after the saves already queued.
+     */
+    synchronized void submit(PendingSave save) {
+        requireNonNull(save);
+        if (save.supersedesEarlierSaves()) {
+            queue.clear();
+        }
+        queue.add(save);
+        if (!isWriting) {
+            isWriting = true;
+            executor.execute(this::writeQueued);
+        }
+    }
+
+    /**
+     * Waits until every save submitted so far has been written or has failed.
+     */
+    synchronized void awaitWritten() {
+        boolean isInterrupted = false;
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the failure of the latest save that failed since the last call, if any.
+     */
+    synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> taken = Optional.ofNullable(failure);
+        failure = null;
+        return taken;
+    }
+
+    private void writeQueued() {
+        while (true) {
+            PendingSave save;
+            synchronized (this) {
+                save = queue.poll();
+                if (save == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                save.write();
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Background save failed: " + StringUtil.getDetails(e));
+                synchronized (this) {
+                    failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                }
+            }
+        }
+    }
+}
@@ -1,38 +1,79 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import javafx.util.Duration;
+import seedu.address.logic.commands.person.FindCommand;
+import seedu.address.logic.commands.property.FindPropertyCommand;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * <p>
+ * While a find command is being typed, its results are previewed once typing pauses for {@value #PREVIEW_DELAY_MILLIS}
+ * ms, so that the lists narrow as the keywords are typed without a search for every keystroke. If the text stops being
+ * a find command without being entered, the previews are cancelled, putting back the lists shown before them.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final int PREVIEW_DELAY_MILLIS = 200;
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
+    private final PauseTransition previewDelay = new PauseTransition(Duration.millis(PREVIEW_DELAY_MILLIS));
+    private boolean isPreviewing;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandPreviewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
-        this.commandExecutor = commandExecutor;
+        this.commandExecutor = requireNonNull(commandExecutor);
+        this.commandPreviewer = requireNonNull(commandPreviewer);
+        previewDelay.setOnFinished(unused -> {
+            isPreviewing = true;
+            commandPreviewer.preview(commandTextField.getText());
+        });
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> schedulePreview(text));
     }
 
     /**
-     * Handles the Enter button pressed event.
+     * Previews {@code commandText} once typing pauses, if it is a find command, or cancels the previews shown if it
+     * is not. A preview scheduled before is dropped.
+     */
+    private void schedulePreview(String commandText) {
+        previewDelay.stop();
+        if (isPreviewable(commandText)) {
+            previewDelay.playFromStart();
+        } else if (isPreviewing) {
+            isPreviewing = false;
+            commandPreviewer.cancelPreview();
+        }
+    }
+
+    /**
+     * Returns true if {@code commandText} is a find command with something to search for.
+     */
+    static boolean isPreviewable(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 2);
+        return words.length == 2
+                && (words[0].equals(FindCommand.COMMAND_WORD) || words[0].equals(FindPropertyCommand.COMMAND_WORD));
+    }
+
+    /**
+     * Handles the Enter button pressed event. The command box is cleared at once, so that the next command can be
+     * typed while this one executes.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,12 +82,26 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        previewDelay.stop();
+        // The command entered replaces the previews, so they are not cancelled when the box is cleared
+        isPreviewing = false;
+        commandTextField.setText("");
+        commandExecutor.execute(commandText, () -> handleCommandFailed(commandText));
+    }
+
+    /**
+     * Puts {@code commandText}, which failed, back into the command box to be corrected, unless another command has
+     * been typed since.
+     */
+    private void handleCommandFailed(String commandText) {
+        if (!commandTextField.getText().isEmpty()) {
+            return;
         }
+        commandTextField.setText(commandText);
+        // The command was just executed, so there is nothing new to preview
+        previewDelay.stop();
+        commandTextField.end();
+        setStyleToIndicateCommandFailure();
     }
 
     /**
@@ -75,11 +130,30 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command, and runs {@code onFailure} on the JavaFX application thread if it fails.
+         *
+         * @see seedu.address.logic.CommandPipeline#submit(String, seedu.address.logic.CommandPipeline.CommandCallback)
+         */
+        void execute(String commandText, Runnable onFailure);
+    }
+
+    /**
+     * Represents something that can preview the results of commands still being typed.
+     */
+    public interface CommandPreviewer {
+        /**
+         * Previews the results of the command, superseding the previews before it.
+         *
+         * @see seedu.address.logic.CommandPipeline#preview(String, java.util.function.Consumer)
+         */
+        void preview(String commandText);
+
+        /**
+         * Undoes the previews shown since the last command entered.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandPipeline#cancelPreview(Runnable)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void cancelPreview();
     }
 
 }
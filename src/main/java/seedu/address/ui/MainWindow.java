@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,10 +15,9 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandPipeline;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.person.PersonListPanel;
 import seedu.address.ui.property.PropertyListPanel;
 
@@ -33,6 +33,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandPipeline commandPipeline;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -70,6 +71,7 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandPipeline = new CommandPipeline(logic, Platform::runLater);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -121,14 +123,14 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(commandPipeline.getPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
         AnchorPane.setTopAnchor(personListPanel.getRoot(), 0.0);
         AnchorPane.setBottomAnchor(personListPanel.getRoot(), 0.0);
         AnchorPane.setLeftAnchor(personListPanel.getRoot(), 0.0);
         AnchorPane.setRightAnchor(personListPanel.getRoot(), 0.0);
 
-        propertyListPanel = new PropertyListPanel(logic.getFilteredPropertyList());
+        propertyListPanel = new PropertyListPanel(commandPipeline.getPropertyList());
         propertyListPanelPlaceholder.getChildren().add(propertyListPanel.getRoot());
         AnchorPane.setTopAnchor(propertyListPanel.getRoot(), 0.0);
         AnchorPane.setBottomAnchor(propertyListPanel.getRoot(), 0.0);
@@ -146,8 +148,20 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        commandPipeline.pendingCommandsProperty().addListener((unused, oldCount, newCount) ->
+                statusBarFooter.showPendingCommands(newCount.intValue()));
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, new CommandBox.CommandPreviewer() {
+            @Override
+            public void preview(String commandText) {
+                previewCommand(commandText);
+            }
+
+            @Override
+            public void cancelPreview() {
+                commandPipeline.cancelPreview(() -> resultDisplay.setFeedbackToUser(""));
+            }
+        });
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -200,28 +214,52 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Waits for the commands entered so far to be executed.
+     */
+    void stop() {
+        commandPipeline.shutdown();
+    }
+
+    /**
+     * Queues the command to be executed in the background, and shows its result once it is done. Runs
+     * {@code onFailure} if it fails.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private void executeCommand(String commandText, Runnable onFailure) {
+        commandPipeline.submit(commandText, new CommandPipeline.CommandCallback() {
+            @Override
+            public void onSuccess(CommandResult commandResult) {
+                logger.info("Result: " + commandResult.getFeedbackToUser());
+                resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+                if (commandResult.isShowHelp()) {
+                    handleHelp();
+                }
+
+                if (commandResult.isExit()) {
+                    handleExit();
+                }
             }
 
-            if (commandResult.isExit()) {
-                handleExit();
+            @Override
+            public void onFailure(Exception e) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(e.getMessage());
+                onFailure.run();
             }
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
+    }
+
+    /**
+     * Previews the results of the command still being typed in the background, and shows its feedback if it is still
+     * the latest one once it is done. The feedback is cleared if it could not be previewed, since the lists are then
+     * put back as they were before the previews.
+     *
+     * @see seedu.address.logic.Logic#preview(String)
+     */
+    private void previewCommand(String commandText) {
+        commandPipeline.preview(commandText, commandResult ->
+                resultDisplay.setFeedbackToUser(commandResult.map(CommandResult::getFeedbackToUser).orElse("")));
     }
 }
@@ -16,6 +16,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label busyStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -23,6 +25,15 @@ public class StatusBarFooter extends UiPart<Region> {
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        showPendingCommands(0);
+    }
+
+    /**
+     * Shows that {@code count} commands are executing or waiting to, or nothing if there are none.
+     */
+    public void showPendingCommands(int count) {
+        busyStatus.setVisible(count > 0);
+        busyStatus.setText(count > 1 ? "Working... (" + (count - 1) + " queued)" : "Working...");
     }
 
 }
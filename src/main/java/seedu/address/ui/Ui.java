@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Stops the UI, waiting for the commands entered so far to be executed. */
+    void stop();
+
+    /** Tells the user that the address book could not be saved before the app closed, because of {@code details}. */
+    void showSaveFailure(String details);
+
 }
@@ -50,6 +50,20 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop() {
+        if (mainWindow != null) {
+            mainWindow.stop();
+        }
+    }
+
+    @Override
+    public void showSaveFailure(String details) {
+        // The main window may already be closed, so the alert is shown on its own
+        showAlertDialogAndWait(null, AlertType.ERROR, "Could not save data",
+                "Your latest changes could not be saved and may be lost.", details);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -15,12 +17,16 @@ import seedu.address.ui.UiPart;
 
 /**
  * UI component that displays a {@link Person} in the person list.
+ * <p>
+ * A card can be rebound to another person with {@link #setPerson(Person, int)}, so that a list cell loads the card's
+ * FXML once and reuses it for every person scrolled into view. Long property lists are collapsed, as described in
+ * {@link PropertyChips}.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -41,6 +47,18 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane interestedProperties;
 
+    private final PropertyChips ownedChips;
+    private final PropertyChips interestedChips;
+
+    /**
+     * Creates an empty {@code PersonCard}, to be bound to a person with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+        ownedChips = new PropertyChips(ownedProperties);
+        interestedChips = new PropertyChips(interestedProperties);
+    }
+
     /**
      * Creates a {@code PersonCard} to render the given {@code Person} at the specified index.
      *
@@ -48,7 +66,25 @@ public class PersonCard extends UiPart<Region> {
      * @param displayedIndex 1-based index shown on the card
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Returns the person this card displays, or null if it has not been bound to one.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} at the specified index in place of the person this card displayed before, reusing
+     * the labels already on the card.
+     *
+     * @param person the person to display
+     * @param displayedIndex 1-based index shown on the card
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -56,22 +92,32 @@ public class PersonCard extends UiPart<Region> {
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
 
+        List<String> tagTexts = new ArrayList<>();
         person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+                .forEach(tag -> tagTexts.add(tag.tagName));
+        setLabels(tags, tagTexts);
 
-        List<String> ownedTexts = renderPropertyTexts(person.getOwnedProperties());
-        for (int i = 0; i < ownedTexts.size(); i++) {
-            Label chip = new Label(ownedTexts.get(i));
-            chip.getStyleClass().add("cell_small_label");
-            ownedProperties.getChildren().add(chip);
-        }
+        ownedChips.setProperties(person.getOwnedProperties());
+        interestedChips.setProperties(person.getInterestedProperties());
+    }
 
-        List<String> interestedTexts = renderPropertyTexts(person.getInterestedProperties());
-        for (int i = 0; i < interestedTexts.size(); i++) {
-            Label chip = new Label(interestedTexts.get(i));
-            chip.getStyleClass().add("cell_small_label");
-            interestedProperties.getChildren().add(chip);
+    /**
+     * Makes {@code pane} show one label for each of {@code texts}, relabelling the labels it already has and only
+     * adding or removing labels when the number of texts changed.
+     */
+    private static void setLabels(FlowPane pane, List<String> texts) {
+        ObservableList<Node> labels = pane.getChildren();
+        if (labels.size() > texts.size()) {
+            labels.remove(texts.size(), labels.size());
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < labels.size()) {
+                Label label = (Label) labels.get(i);
+                label.setText(texts.get(i));
+                continue;
+            }
+            labels.add(new Label(texts.get(i)));
         }
     }
 
@@ -79,8 +125,17 @@ public class PersonCard extends UiPart<Region> {
      * Returns the display texts for properties joined by ", " where only non-last items carry the suffix.
      */
     public static List<String> renderPropertyTexts(List<Property> properties) {
-        List<String> out = new ArrayList<>();
-        for (int i = 0; i < properties.size(); i++) {
+        return renderPropertyTexts(properties, properties.size());
+    }
+
+    /**
+     * Returns the display texts for at most the first {@code limit} properties, as {@link #renderPropertyTexts(List)}
+     * does for all of them. The texts are only built for the properties returned.
+     */
+    public static List<String> renderPropertyTexts(List<Property> properties, int limit) {
+        int count = Math.min(properties.size(), limit);
+        List<String> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
             String name = properties.get(i).getPropertyName().toString();
             String suffix = (i < properties.size() - 1) ? ", " : "";
             out.add(name + suffix);
@@ -17,6 +17,8 @@ import seedu.address.ui.UiPart;
  * Panel containing the list of persons.
  */
 public class PersonListPanel extends UiPart<Region> {
+    public static final double VARIABLE_CELL_SIZE = -1;
+
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
@@ -24,30 +26,47 @@ public class PersonListPanel extends UiPart<Region> {
     private ListView<Person> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, sizing each cell to its card.
      */
     public PersonListPanel(ObservableList<Person> personList) {
+        this(personList, VARIABLE_CELL_SIZE);
+    }
+
+    /**
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, giving every cell the height
+     * {@code fixedCellSize}, or sizing each cell to its card if it is {@value #VARIABLE_CELL_SIZE}. A fixed height
+     * spares the list view from measuring cells as they scroll into view.
+     */
+    public PersonListPanel(ObservableList<Person> personList, double fixedCellSize) {
         super(FXML);
-        personListView.setFixedCellSize(-1);
+        personListView.setFixedCellSize(fixedCellSize);
         personListView.setItems(personList);
         personListView.setMaxHeight(Double.MAX_VALUE);
         HBox.setHgrow(personListView, Priority.ALWAYS);
-
-        personListView.setCellFactory(listView -> new ListCell<>() {
-            @Override
-            protected void updateItem(Person person, boolean empty) {
-                super.updateItem(person, empty);
-
-                if (empty || person == null) {
-                    setGraphic(null);
-                    setText(null);
-                } else {
-                    PersonCard card = new PersonCard(person, getIndex() + 1);
-                    setGraphic(card.getRoot());
-                }
-            }
-        });
+        personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
+    /**
+     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}. The card
+     * is created with the first person the cell shows, and rebound to each person it shows after that.
+     */
+    private static class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
+        @Override
+        protected void updateItem(Person person, boolean empty) {
+            super.updateItem(person, empty);
 
+            if (empty || person == null) {
+                setGraphic(null);
+                setText(null);
+                return;
+            }
+            if (card == null) {
+                card = new PersonCard();
+            }
+            card.setPerson(person, getIndex() + 1);
+            setGraphic(card.getRoot());
+        }
+    }
 }
@@ -0,0 +1,148 @@
+package seedu.address.ui.person;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.FlowPane;
+import seedu.address.model.property.Property;
+
+/**
+ * Shows a list of properties of a {@link PersonCard} in a {@code FlowPane}, one chip per property.
+ * <p>
+ * At most {@value #MAX_CHIPS} chips are shown, followed by a "+N more" summary of the rest. Clicking the summary
+ * expands the list into a list view of every property, which only creates nodes for the properties scrolled into
+ * view, so that the cost of a card does not grow with the number of properties. The list view is created the first
+ * time the list is expanded, and kept for later expansions.
+ */
+class PropertyChips {
+
+    static final int MAX_CHIPS = 8;
+
+    static final String CHIP_STYLE_CLASS = "cell_small_label";
+    static final String TOGGLE_STYLE_CLASS = "property_chips_toggle";
+
+    private static final double EXPANDED_CELL_SIZE = 22;
+    private static final int EXPANDED_VISIBLE_ROWS = 8;
+    private static final double EXPANDED_WIDTH = 300;
+
+    private final FlowPane pane;
+    private final Label toggle = new Label();
+
+    private List<Property> properties = List.of();
+    private boolean isExpanded;
+    private ListView<Property> expandedList;
+
+    /**
+     * Creates the chips shown in {@code pane}, which should hold nothing else.
+     */
+    PropertyChips(FlowPane pane) {
+        this.pane = pane;
+        toggle.getStyleClass().addAll(CHIP_STYLE_CLASS, TOGGLE_STYLE_CLASS);
+        toggle.setCursor(Cursor.HAND);
+        toggle.setOnMouseClicked(event -> {
+            setExpanded(!isExpanded);
+            event.consume();
+        });
+    }
+
+    /**
+     * Shows {@code properties} collapsed. The list stays expanded if it was showing the same list before.
+     */
+    void setProperties(List<Property> properties) {
+        if (properties != this.properties) {
+            isExpanded = false;
+        }
+        this.properties = properties;
+        render();
+    }
+
+    /**
+     * Expands the list into a list view of every property, or collapses it back to chips. Only a list with more
+     * properties than chips can be expanded.
+     */
+    void setExpanded(boolean isExpanded) {
+        this.isExpanded = isExpanded && properties.size() > MAX_CHIPS;
+        render();
+    }
+
+    boolean isExpanded() {
+        return isExpanded;
+    }
+
+    /**
+     * Returns the text of the summary that stands for the {@code hiddenCount} properties without a chip.
+     */
+    static String moreText(int hiddenCount) {
+        return "+" + hiddenCount + " more";
+    }
+
+    private void render() {
+        ObservableList<Node> children = pane.getChildren();
+        if (isExpanded) {
+            ListView<Property> list = getExpandedList();
+            list.setItems(FXCollections.observableList(properties));
+            list.setPrefHeight(Math.min(properties.size(), EXPANDED_VISIBLE_ROWS) * EXPANDED_CELL_SIZE + 2);
+            list.scrollTo(0);
+            toggle.setText("Show less");
+            children.setAll(list, toggle);
+            return;
+        }
+
+        children.remove(toggle);
+        if (expandedList != null) {
+            children.remove(expandedList);
+            // Lets go of the properties it showed while it is not shown
+            expandedList.setItems(null);
+        }
+        List<String> texts = PersonCard.renderPropertyTexts(properties, MAX_CHIPS);
+        if (children.size() > texts.size()) {
+            children.remove(texts.size(), children.size());
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < children.size()) {
+                Label chip = (Label) children.get(i);
+                chip.setText(texts.get(i));
+                continue;
+            }
+            Label chip = new Label(texts.get(i));
+            chip.getStyleClass().add(CHIP_STYLE_CLASS);
+            children.add(chip);
+        }
+        if (properties.size() > texts.size()) {
+            toggle.setText(moreText(properties.size() - texts.size()));
+            children.add(toggle);
+        }
+    }
+
+    private ListView<Property> getExpandedList() {
+        if (expandedList == null) {
+            expandedList = new ListView<>();
+            expandedList.setFixedCellSize(EXPANDED_CELL_SIZE);
+            expandedList.setPrefWidth(EXPANDED_WIDTH);
+            expandedList.setFocusTraversable(false);
+            expandedList.setCellFactory(listView -> new PropertyNameCell());
+        }
+        return expandedList;
+    }
+
+    /**
+     * {@code ListCell} that shows the name of a property.
+     */
+    private static class PropertyNameCell extends ListCell<Property> {
+        PropertyNameCell() {
+            getStyleClass().add(CHIP_STYLE_CLASS);
+        }
+
+        @Override
+        protected void updateItem(Property property, boolean empty) {
+            super.updateItem(property, empty);
+            setText(empty || property == null ? null : property.getPropertyName().toString());
+        }
+    }
+}
@@ -9,12 +9,15 @@ import seedu.address.ui.UiPart;
 
 /**
  * UI component that displays a {@link Property} in the property list.
+ * <p>
+ * A card can be rebound to another property with {@link #setProperty(Property, int)}, so that a list cell loads the
+ * card's FXML once and reuses it.
  */
 public class PropertyCard extends UiPart<Region> {
 
     private static final String FXML = "PropertyListCard.fxml";
 
-    public final Property property;
+    private Property property;
 
     @FXML
     private HBox cardPane;
@@ -27,6 +30,13 @@ public class PropertyCard extends UiPart<Region> {
     @FXML
     private Label price;
 
+    /**
+     * Creates an empty {@code PropertyCard}, to be bound to a property with {@link #setProperty(Property, int)}.
+     */
+    public PropertyCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PropertyCard} to render the given {@code Property} at the specified index.
      *
@@ -34,7 +44,24 @@ public class PropertyCard extends UiPart<Region> {
      * @param displayedIndex 1-based index shown on the card
      */
     public PropertyCard(Property property, int displayedIndex) {
-        super(FXML);
+        this();
+        setProperty(property, displayedIndex);
+    }
+
+    /**
+     * Returns the property this card displays, or null if it has not been bound to one.
+     */
+    public Property getProperty() {
+        return property;
+    }
+
+    /**
+     * Displays {@code property} at the specified index in place of the property this card displayed before.
+     *
+     * @param property the property to display
+     * @param displayedIndex 1-based index shown on the card
+     */
+    public void setProperty(Property property, int displayedIndex) {
         this.property = property;
         id.setText(displayedIndex + ". ");
         propertyName.setText(property.getPropertyName().toString());
@@ -42,4 +69,3 @@ public class PropertyCard extends UiPart<Region> {
         price.setText("Price: $" + property.getPrice().toString());
     }
 }
-
@@ -17,6 +17,8 @@ import seedu.address.ui.UiPart;
  * Panel containing the list of properties.
  */
 public class PropertyListPanel extends UiPart<Region> {
+    public static final double VARIABLE_CELL_SIZE = -1;
+
     private static final String FXML = "PropertyListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PropertyListPanel.class);
 
@@ -24,32 +26,47 @@ public class PropertyListPanel extends UiPart<Region> {
     private ListView<Property> propertyListView;
 
     /**
-     * Creates a {@code PropertyListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PropertyListPanel} with the given {@code ObservableList}, sizing each cell to its card.
      */
     public PropertyListPanel(ObservableList<Property> propertyList) {
+        this(propertyList, VARIABLE_CELL_SIZE);
+    }
+
+    /**
+     * Creates a {@code PropertyListPanel} with the given {@code ObservableList}, giving every cell the height
+     * {@code fixedCellSize}, or sizing each cell to its card if it is {@value #VARIABLE_CELL_SIZE}. A fixed height
+     * spares the list view from measuring cells as they scroll into view.
+     */
+    public PropertyListPanel(ObservableList<Property> propertyList, double fixedCellSize) {
         super(FXML);
-        propertyListView.setFixedCellSize(-1);
+        propertyListView.setFixedCellSize(fixedCellSize);
         propertyListView.setItems(propertyList);
         propertyListView.setMaxHeight(Double.MAX_VALUE);
         HBox.setHgrow(propertyListView, Priority.ALWAYS);
-
-        propertyListView.setCellFactory(listView -> new ListCell<>() {
-            @Override
-            protected void updateItem(Property property, boolean empty) {
-                super.updateItem(property, empty);
-
-                if (empty || property == null) {
-                    setGraphic(null);
-                    setText(null);
-                } else {
-                    PropertyCard card = new PropertyCard(property, getIndex() + 1);
-                    setGraphic(card.getRoot());
-                }
-            }
-        });
+        propertyListView.setCellFactory(listView -> new PropertyListViewCell());
     }
 
+    /**
+     * Custom {@code ListCell} that displays the graphics of a {@code Property} using a {@code PropertyCard}. The card
+     * is created with the first property the cell shows, and rebound to each property it shows after that.
+     */
+    private static class PropertyListViewCell extends ListCell<Property> {
+        private PropertyCard card;
 
+        @Override
+        protected void updateItem(Property property, boolean empty) {
+            super.updateItem(property, empty);
 
+            if (empty || property == null) {
+                setGraphic(null);
+                setText(null);
+                return;
+            }
+            if (card == null) {
+                card = new PropertyCard();
+            }
+            card.setProperty(property, getIndex() + 1);
+            setGraphic(card.getRoot());
+        }
+    }
 }
-
@@ -1,15 +1,18 @@
 package seedu.address;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
 
 /**
  * Tests MainApp.initConfig behavior with explicit file paths.
@@ -37,4 +40,17 @@ public class MainAppInitConfigTest {
         assertNotNull(out);
         assertTrue(Files.exists(cfg));
     }
+
+    @Test
+    void initConfig_validFilePresent_notRewritten() throws Exception {
+        MainApp app = new MainApp();
+        Path cfg = tmp.resolve("config.json");
+        ConfigUtil.saveConfig(new Config(), cfg);
+        FileTime written = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(cfg, written);
+
+        Config out = app.initConfig(cfg);
+        assertEquals(new Config(), out);
+        assertEquals(written, Files.getLastModifiedTime(cfg));
+    }
 }
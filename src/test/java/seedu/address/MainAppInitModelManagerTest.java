@@ -65,9 +65,13 @@ public class MainAppInitModelManagerTest {
 
     private static class StorageThrowsAtPath implements Storage {
         private final Path path;
+        private LoadReport keptReport;
         StorageThrowsAtPath(Path path) {
             this.path = path; }
 
+        @Override public void keepLoadReport(LoadReport report) {
+            keptReport = report; }
+
         @Override public LoadReport overwriteRawEntryAtIndex(int i, Person person) {
             return null; }
         @Override public Optional<UserPrefs> readUserPrefs() {
@@ -120,7 +124,7 @@ public class MainAppInitModelManagerTest {
             Files.delete(missingPath);
         }
 
-        Storage storage = new StorageThrowsAtPath(missingPath);
+        StorageThrowsAtPath storage = new StorageThrowsAtPath(missingPath);
         UserPrefs prefs = new UserPrefs();
 
         MainApp app = new MainApp();
@@ -131,6 +135,7 @@ public class MainAppInitModelManagerTest {
         ModelManager mm = (ModelManager) out;
 
         assertTrue(mm.getAddressBook().getPersonList().size() > 0);
+        assertTrue(storage.keptReport.getInvalids().isEmpty());
     }
 
     @Test
@@ -138,7 +143,7 @@ public class MainAppInitModelManagerTest {
         Path existing = Files.createTempFile("ab-existing-", ".json");
         existing.toFile().deleteOnExit();
 
-        Storage storage = new StorageThrowsAtPath(existing);
+        StorageThrowsAtPath storage = new StorageThrowsAtPath(existing);
         UserPrefs prefs = new UserPrefs();
 
         MainApp app = new MainApp();
@@ -149,5 +154,6 @@ public class MainAppInitModelManagerTest {
         ModelManager mm = (ModelManager) out;
 
         assertEquals(0, mm.getAddressBook().getPersonList().size());
+        assertTrue(storage.keptReport.getInvalids().isEmpty());
     }
 }
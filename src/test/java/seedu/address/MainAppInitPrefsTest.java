@@ -20,6 +20,7 @@ public class MainAppInitPrefsTest {
         private final Optional<UserPrefs> prefsToReturn;
         private final boolean throwReadError;
         private final boolean throwWriteError;
+        private int saveCount;
 
         StubUserPrefsStorage(Optional<UserPrefs> prefsToReturn,
                              boolean throwReadError,
@@ -44,6 +45,7 @@ public class MainAppInitPrefsTest {
 
         @Override
         public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+            saveCount++;
             if (throwWriteError) {
                 throw new IOException("Simulated save error");
             }
@@ -57,6 +59,7 @@ public class MainAppInitPrefsTest {
 
         UserPrefs result = new MainApp().initPrefs(stub);
         assertEquals(expected, result);
+        assertEquals(0, stub.saveCount);
     }
 
     @Test
@@ -66,6 +69,7 @@ public class MainAppInitPrefsTest {
         UserPrefs result = new MainApp().initPrefs(stub);
         assertNotNull(result);
         assertEquals(new UserPrefs(), result);
+        assertEquals(1, stub.saveCount);
     }
 
     @Test
@@ -80,7 +84,7 @@ public class MainAppInitPrefsTest {
 
     @Test
     public void initPrefs_saveFails_logsWarningButStillReturnsPrefs() {
-        StubUserPrefsStorage stub = new StubUserPrefsStorage(Optional.of(new UserPrefs()), false, true);
+        StubUserPrefsStorage stub = new StubUserPrefsStorage(Optional.empty(), false, true);
 
         UserPrefs result = new MainApp().initPrefs(stub);
         assertNotNull(result);
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,9 +14,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.LoadReport;
 import seedu.address.storage.Storage;
 
@@ -114,4 +120,47 @@ class MainAppPrivateMethodsTest {
         Object model = m.invoke(app, storage, prefs);
         assertNotNull(model);
     }
+
+    /**
+     * Verifies that a JSON data file that cannot be converted is used as it is, and no binary snapshot is made.
+     */
+    @Test
+    void initAddressBookStorage_conversionFails_usesJsonFile(@TempDir Path dir) throws Exception {
+        Path jsonFile = dir.resolve("addressbook.json");
+        Files.writeString(jsonFile, "{ not json");
+        seedu.address.model.UserPrefs prefs = new seedu.address.model.UserPrefs();
+        prefs.setAddressBookFilePath(jsonFile);
+        prefs.setDataFileFormat(DataFileFormat.BINARY);
+
+        Method m = MainApp.class.getDeclaredMethod("initAddressBookStorage", ReadOnlyUserPrefs.class);
+        m.setAccessible(true);
+        AddressBookStorage storage = (AddressBookStorage) m.invoke(new MainApp(), prefs);
+
+        assertTrue(storage instanceof JsonAddressBookStorage);
+        assertEquals(jsonFile, storage.getAddressBookFilePath());
+        assertFalse(Files.exists(BinaryAddressBookStorage.snapshotPathFor(jsonFile)));
+    }
+
+    /**
+     * Verifies that a binary snapshot is moved back to the JSON data file when the JSON format is chosen again.
+     */
+    @Test
+    void initAddressBookStorage_binaryNoLongerChosen_movedBackToJson(@TempDir Path dir) throws Exception {
+        Path jsonFile = dir.resolve("addressbook.json");
+        Path snapshotFile = BinaryAddressBookStorage.snapshotPathFor(jsonFile);
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(new seedu.address.model.AddressBook());
+        seedu.address.model.AddressBook addressBook = seedu.address.testutil.TypicalPersons.getTypicalAddressBook();
+        new BinaryAddressBookStorage(snapshotFile).saveAddressBook(addressBook);
+        seedu.address.model.UserPrefs prefs = new seedu.address.model.UserPrefs();
+        prefs.setAddressBookFilePath(jsonFile);
+        prefs.setDataFileFormat(DataFileFormat.JSON);
+
+        Method m = MainApp.class.getDeclaredMethod("initAddressBookStorage", ReadOnlyUserPrefs.class);
+        m.setAccessible(true);
+        AddressBookStorage storage = (AddressBookStorage) m.invoke(new MainApp(), prefs);
+
+        assertTrue(storage instanceof JsonAddressBookStorage);
+        assertEquals(addressBook, storage.readAddressBook().get());
+        assertFalse(Files.exists(snapshotFile));
+    }
 }
@@ -0,0 +1,99 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.stage.Stage;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.ui.Ui;
+
+public class MainAppStopTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<String> saveFailures = new ArrayList<>();
+
+    @Test
+    public void stop_backgroundSaveFailed_writtenAgain() throws Exception {
+        Path dataFile = temporaryFolder.resolve("addressBook.json");
+        MainApp app = createApp(dataFile, 0);
+
+        app.stop();
+
+        assertTrue(Files.exists(dataFile));
+        assertEquals(List.of(ALICE), new JsonAddressBookStorage(dataFile).readAddressBook().get().getPersonList());
+        assertTrue(saveFailures.isEmpty());
+    }
+
+    @Test
+    public void stop_writingAgainFails_userTold() {
+        Path dataFile = temporaryFolder.resolve("addressBook.json");
+        MainApp app = createApp(dataFile, 1);
+
+        app.stop();
+
+        assertFalse(Files.exists(dataFile));
+        assertEquals(1, saveFailures.size());
+    }
+
+    /**
+     * Returns an app whose background saves failed, and whose storage then fails the next {@code failingWrites}
+     * full writes.
+     */
+    private MainApp createApp(Path dataFile, int failingWrites) {
+        MainApp app = new MainApp();
+        app.storage = new StorageManager(new JsonAddressBookStorage(dataFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json"))) {
+            private int writesToFail = failingWrites;
+
+            @Override
+            public void flushAddressBook() throws IOException {
+                throw new IOException("background save failed");
+            }
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writesToFail-- > 0) {
+                    throw new IOException("write failed");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        app.model = new ModelManager(addressBook, new UserPrefs());
+        app.ui = new Ui() {
+            @Override
+            public void start(Stage primaryStage) {
+            }
+
+            @Override
+            public void stop() {
+            }
+
+            @Override
+            public void showSaveFailure(String details) {
+                saveFailures.add(details);
+            }
+        };
+        return app;
+    }
+}
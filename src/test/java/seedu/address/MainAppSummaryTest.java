@@ -50,9 +50,9 @@ public class MainAppSummaryTest {
     @Test
     void buildInvalidSummary_formatsByIndexAndListsReasons() throws Exception {
         MainApp app = new MainApp();
-        Method m = MainApp.class.getDeclaredMethod("buildInvalidSummary", LoadReport.class);
+        Method m = MainApp.class.getDeclaredMethod("buildInvalidSummary", LoadReport.class, int.class);
         m.setAccessible(true);
-        String summary = (String) m.invoke(app, syntheticReport());
+        String summary = (String) m.invoke(app, syntheticReport(), 0);
 
         assertTrue(summary.contains("Invalid persons (ignored): 1"));
         assertTrue(summary.contains("Person #1"));
@@ -65,9 +65,9 @@ public class MainAppSummaryTest {
     @Test
     void buildInvalidSummary_none_showsZero() throws Exception {
         MainApp app = new MainApp();
-        Method m = MainApp.class.getDeclaredMethod("buildInvalidSummary", LoadReport.class);
+        Method m = MainApp.class.getDeclaredMethod("buildInvalidSummary", LoadReport.class, int.class);
         m.setAccessible(true);
-        String s = (String) m.invoke(app, emptyReport());
+        String s = (String) m.invoke(app, emptyReport(), 0);
         assertTrue(s.contains("Invalid persons (ignored): 0"));
         assertTrue(s.contains("Valid persons (loaded): 0"));
         assertTrue(s.contains("Invalid records: 0"));
@@ -76,9 +76,9 @@ public class MainAppSummaryTest {
     @Test
     void buildInvalidSummary_one_showsIndexAndFields() throws Exception {
         MainApp app = new MainApp();
-        Method m = MainApp.class.getDeclaredMethod("buildInvalidSummary", LoadReport.class);
+        Method m = MainApp.class.getDeclaredMethod("buildInvalidSummary", LoadReport.class, int.class);
         m.setAccessible(true);
-        String s = (String) m.invoke(app, oneInvalid());
+        String s = (String) m.invoke(app, oneInvalid(), 0);
         assertTrue(s.contains("Invalid persons (ignored): 1"));
         assertTrue(s.contains("Person #2"));
         assertTrue(s.contains("name:"));
@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,14 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeDurably_existingFile_contentReplaced() throws Exception {
+        Path file = temporaryFolder.resolve("file.bin");
+        Files.write(file, new byte[] {9, 9, 9, 9, 9});
+
+        FileUtil.writeDurably(file, new byte[] {1, 2, 3});
+
+        assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(file));
+    }
+
 }
@@ -0,0 +1,254 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+public class CommandPipelineTest {
+
+    private final LogicStub logic = new LogicStub();
+    private final Queue<Runnable> commitSteps = new ConcurrentLinkedQueue<>();
+    private final CommandPipeline pipeline = new CommandPipeline(logic, commitSteps::add);
+    private final List<String> outcomes = new ArrayList<>();
+
+    @Test
+    public void submit_severalCommands_executedInOrderAndShownOnCommit() {
+        pipeline.submit("add Alice", callback());
+        pipeline.submit("add Benson", callback());
+        pipeline.submit("remove first", callback());
+        pipeline.shutdown();
+
+        assertEquals(List.of("add Alice", "add Benson", "remove first"), logic.executed);
+        assertEquals(List.of(), pipeline.getPersonList());
+        assertEquals(3, pipeline.pendingCommandsProperty().get());
+
+        runCommitSteps();
+
+        assertEquals(List.of(BENSON), pipeline.getPersonList());
+        assertEquals(0, pipeline.pendingCommandsProperty().get());
+        assertEquals(List.of("done add Alice", "done add Benson", "done remove first"), outcomes);
+    }
+
+    @Test
+    public void submit_failingCommand_changesShownAndFailureReported() {
+        pipeline.submit("add Carl", callback());
+        pipeline.submit("add Alice then fail", callback());
+        pipeline.shutdown();
+        runCommitSteps();
+
+        assertEquals(List.of(CARL, ALICE), pipeline.getPersonList());
+        assertEquals(List.of("done add Carl", "failed"), outcomes);
+    }
+
+    @Test
+    public void submit_unexpectedError_reportedAsFailure() {
+        pipeline.submit("add Alice then crash", callback());
+        pipeline.submit("add Carl", callback());
+        pipeline.shutdown();
+        runCommitSteps();
+
+        assertEquals(List.of(ALICE, CARL), pipeline.getPersonList());
+        assertEquals(List.of(Messages.MESSAGE_UNEXPECTED_ERROR, "done add Carl"), outcomes);
+    }
+
+    @Test
+    public void preview_supersededPreviews_onlyLatestShown() {
+        logic.blockNextCommand();
+        pipeline.submit("add Alice", callback());
+        pipeline.preview("add Benson", previewCallback());
+        pipeline.preview("add Carl", previewCallback());
+        logic.unblock();
+        pipeline.shutdown();
+        runCommitSteps();
+
+        assertEquals(List.of("add Alice", "add Carl"), logic.executed);
+        assertEquals(List.of(ALICE, CARL), pipeline.getPersonList());
+        assertEquals(List.of("done add Alice", "previewed add Carl"), outcomes);
+    }
+
+    @Test
+    public void preview_supersededWhileRunning_changesShownWithoutResult() {
+        logic.blockNextCommand();
+        pipeline.preview("add Benson", previewCallback());
+        logic.awaitBlocked();
+        pipeline.submit("add Carl", callback());
+        logic.unblock();
+        pipeline.shutdown();
+        runCommitSteps();
+
+        assertEquals(List.of(BENSON, CARL), pipeline.getPersonList());
+        assertEquals(List.of("done add Carl"), outcomes);
+    }
+
+    @Test
+    public void cancelPreview_commandSubmittedAfter_cancelledBeforeCommand() {
+        logic.blockNextCommand();
+        pipeline.submit("add Alice", callback());
+        pipeline.preview("add Benson", result -> outcomes.add("previewed"));
+        pipeline.cancelPreview(() -> outcomes.add("cancelled"));
+        pipeline.submit("add Carl", callback());
+        logic.unblock();
+        pipeline.shutdown();
+        runCommitSteps();
+
+        // The preview is skipped, but the cancellation is not, although its report is
+        assertEquals(List.of("add Alice", "cancel preview", "add Carl"), logic.executed);
+        assertEquals(List.of("done add Alice", "done add Carl"), outcomes);
+    }
+
+    @Test
+    public void cancelPreview_latest_reported() {
+        pipeline.preview("add Benson", result -> outcomes.add("previewed"));
+        pipeline.cancelPreview(() -> outcomes.add("cancelled"));
+        pipeline.shutdown();
+        runCommitSteps();
+
+        assertEquals(List.of("cancelled"), outcomes);
+    }
+
+    private CommandPipeline.CommandCallback callback() {
+        return new CommandPipeline.CommandCallback() {
+            @Override
+            public void onSuccess(CommandResult result) {
+                outcomes.add(result.getFeedbackToUser());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                outcomes.add(e.getMessage());
+            }
+        };
+    }
+
+    private Consumer<Optional<CommandResult>> previewCallback() {
+        return result -> outcomes.add(result.map(CommandResult::getFeedbackToUser).orElse("not previewed"));
+    }
+
+    private void runCommitSteps() {
+        Runnable commitStep;
+        while ((commitStep = commitSteps.poll()) != null) {
+            commitStep.run();
+        }
+    }
+
+    /**
+     * A Logic stub that adds and removes typical persons by name.
+     */
+    private static class LogicStub implements Logic {
+        private final ObservableList<Person> persons = FXCollections.observableArrayList();
+        private final ObservableList<Property> properties = FXCollections.observableArrayList();
+        private final List<String> executed = new ArrayList<>();
+        private CountDownLatch started = new CountDownLatch(0);
+        private CountDownLatch released = new CountDownLatch(0);
+
+        /** Makes the next command or preview wait until {@link #unblock()} is called. */
+        void blockNextCommand() {
+            started = new CountDownLatch(1);
+            released = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() {
+            awaitUninterruptibly(started);
+        }
+
+        void unblock() {
+            released.countDown();
+        }
+
+        private static void awaitUninterruptibly(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public CommandResult execute(String commandText) throws CommandException {
+            executed.add(commandText);
+            started.countDown();
+            awaitUninterruptibly(released);
+            if (commandText.startsWith("add Alice")) {
+                persons.add(ALICE);
+            } else if (commandText.equals("add Benson")) {
+                persons.add(BENSON);
+            } else if (commandText.equals("add Carl")) {
+                persons.add(CARL);
+            } else if (commandText.equals("remove first")) {
+                persons.remove(0);
+            }
+            if (commandText.endsWith("fail")) {
+                throw new CommandException("failed");
+            } else if (commandText.endsWith("crash")) {
+                throw new IllegalStateException("crashed");
+            }
+            return new CommandResult("done " + commandText);
+        }
+
+        @Override
+        public void cancelPreview() {
+            executed.add("cancel preview");
+        }
+
+        @Override
+        public Optional<CommandResult> preview(String commandText) {
+            try {
+                execute(commandText);
+            } catch (CommandException e) {
+                return Optional.empty();
+            }
+            return Optional.of(new CommandResult("previewed " + commandText));
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getFilteredPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Property> getFilteredPropertyList() {
+            return properties;
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GuiSettings getGuiSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setGuiSettings(GuiSettings guiSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_OUT_OF_RANGE_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,11 +10,16 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +29,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.person.AddCommand;
+import seedu.address.logic.commands.person.FindCommand;
 import seedu.address.logic.commands.person.ListCommand;
 import seedu.address.logic.commands.property.ListPropertyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -91,6 +99,76 @@ public class LogicManagerTest {
                 String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundSaveFailed_failureAddedToResult() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, true) {
+            @Override
+            public Optional<IOException> takeBackgroundSaveFailure() {
+                return Optional.of(DUMMY_IO_EXCEPTION);
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        CommandResult result = logic.execute(ListCommand.COMMAND_WORD);
+
+        assertTrue(result.getFeedbackToUser().startsWith(ListCommand.MESSAGE_SUCCESS));
+        assertTrue(result.getFeedbackToUser().endsWith(
+                "\n" + String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())));
+        assertTrue(model.isAddressBookDirty());
+    }
+
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListPropertyCommand.COMMAND_WORD);
+
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_savesAgainWithNextCommand() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        boolean[] hasFailed = {false};
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage) {
+            @Override
+            public Optional<IOException> takeBackgroundSaveFailure() {
+                if (hasFailed[0]) {
+                    return Optional.empty();
+                }
+                hasFailed[0] = true;
+                return Optional.of(DUMMY_IO_EXCEPTION);
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        CommandResult result = logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())));
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+        assertFalse(model.isAddressBookDirty());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
     @Test
     public void execute_storageThrowsAdException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(
@@ -117,6 +195,62 @@ public class LogicManagerTest {
         assertEquals(custom, logic.getAddressBookFilePath());
     }
 
+    @Test
+    public void preview_findCommand_filtersListWithoutSaving() {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+
+        assertTrue(logic.preview(FindCommand.COMMAND_WORD + " n/Alice").isPresent());
+        assertEquals(List.of(ALICE), logic.getFilteredPersonList());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void preview_invalidOrNotPreviewableCommand_notExecuted() {
+        model.addPerson(ALICE);
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+
+        assertEquals(Optional.empty(), logic.preview(FindCommand.COMMAND_WORD + " n/"));
+        assertEquals(Optional.empty(), logic.preview("delete 1"));
+        assertEquals(List.of(ALICE), logic.getFilteredPersonList());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void cancelPreview_afterPreviews_listsPutBack() {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+
+        logic.preview(FindCommand.COMMAND_WORD + " n/Alice");
+        logic.preview(FindCommand.COMMAND_WORD + " n/Benson");
+        assertEquals(List.of(BENSON), logic.getFilteredPersonList());
+
+        logic.cancelPreview();
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_thenInvalidText_listsPutBack() {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+
+        logic.preview(FindCommand.COMMAND_WORD + " n/Alice");
+        assertEquals(Optional.empty(), logic.preview(FindCommand.COMMAND_WORD + " n/"));
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancelPreview_afterCommandEntered_listsKept() throws Exception {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+
+        logic.preview(FindCommand.COMMAND_WORD + " n/Alice");
+        logic.execute(FindCommand.COMMAND_WORD + " n/Alice");
+        logic.cancelPreview();
+        assertEquals(List.of(ALICE), logic.getFilteredPersonList());
+    }
+
     @Test
     public void execute_addCommand_persistsToStorage() throws Exception {
         String addCmd = AddCommand.COMMAND_WORD
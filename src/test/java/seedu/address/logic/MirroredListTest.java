@@ -0,0 +1,58 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class MirroredListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+    private final MirroredList<String> mirror = new MirroredList<>(source);
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    public MirroredListTest() {
+        mirror.addListener((ListChangeListener<String>) changes::add);
+    }
+
+    @Test
+    public void sourceChanged_notAppliedUntilTaken() {
+        source.add("f");
+        source.remove("a");
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), mirror);
+        assertEquals(0, changes.size());
+
+        mirror.apply(mirror.takeChanges());
+        assertEquals(source, mirror);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void apply_manyChanges_sameContentsAsSource() {
+        source.removeIf(s -> s.equals("b") || s.equals("d"));
+        source.add(1, "x");
+        source.set(0, "y");
+        FXCollections.sort(source, Comparator.reverseOrder());
+        source.addAll("z", "w");
+
+        mirror.apply(mirror.takeChanges());
+
+        assertEquals(source, mirror);
+        assertEquals(1, changes.size());
+        assertEquals(List.of(), mirror.takeChanges());
+    }
+
+    @Test
+    public void modify_unsupported() {
+        assertThrows(UnsupportedOperationException.class, () -> mirror.add("f"));
+    }
+}
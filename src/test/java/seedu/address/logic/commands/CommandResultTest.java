@@ -52,6 +52,16 @@ public class CommandResultTest {
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
     }
 
+    @Test
+    public void withFeedbackNote() {
+        CommandResult commandResult = new CommandResult("feedback", CommandResult.ViewType.PROPERTIES);
+
+        assertEquals(new CommandResult("feedback\nnote", CommandResult.ViewType.PROPERTIES),
+                commandResult.withFeedbackNote("note"));
+        assertEquals(new CommandResult("feedback\nnote", true, false),
+                new CommandResult("feedback", true, false).withFeedbackNote("note"));
+    }
+
     @Test
     public void toStringMethod() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,15 +10,11 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Address;
@@ -25,9 +22,9 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.property.Property;
 import seedu.address.storage.LoadReport;
 import seedu.address.storage.Storage;
+import seedu.address.testutil.ModelStub;
 
 /**
  * Tests for {@link FixInvalidCommand}.
@@ -38,108 +35,35 @@ public class FixInvalidCommandTest {
     /* ===========================
      * Minimal Model stub for tests
      * =========================== */
-    private static class ModelStub implements Model {
+    private static class ModelStubAcceptingPersons extends ModelStub {
         final List<Person> persons = new ArrayList<>();
-        final List<Property> properties = new ArrayList<>();
 
         private ReadOnlyAddressBook lastSetAddressBook;
         ReadOnlyAddressBook getLastSetAddressBook() {
             return lastSetAddressBook;
         }
 
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {}
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            return null;
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            return null;
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {}
-
-        @Override
-        public Path getAddressBookFilePath() {
-            return null;
-        }
-
-        @Override
-        public void setAddressBookFilePath(Path addressBookFilePath) {}
-
         @Override
         public void setAddressBook(ReadOnlyAddressBook addressBook) {
             this.lastSetAddressBook = addressBook;
         }
 
-        @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            return null;
-        }
-
         @Override
         public boolean hasPerson(Person person) {
             return persons.stream().anyMatch(person::isSamePerson);
         }
 
-        @Override
-        public boolean hasProperty(Property property) {
-            return false;
-        }
-
-        @Override
-        public void deletePerson(Person target) {}
-
-        @Override
-        public void deleteProperty(Property target) {}
-
         @Override
         public void addPerson(Person person) {
             persons.add(person);
         }
-
-        @Override
-        public void addProperty(Property property) {}
-
-        @Override
-        public void setPerson(Person target, Person editedPerson) {}
-
-        @Override
-        public void setProperty(Property target, Property editedProperty) {}
-
-        @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            return null;
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {}
-
-        @Override
-        public ObservableList<Property> getFilteredPropertyList() {
-            return null;
-        }
-
-        @Override
-        public void updateFilteredPropertyList(Predicate<Property> predicate) {}
-
-        @Override
-        public void removePropertyFromAllPersons(Property propertyToDelete) {
-        }
-        @Override
-        public void updatePropertyInAllPersons(Property oldProperty, Property newProperty) {
-        }
     }
 
     /* ===========================
      * Storage test doubles
      * =========================== */
 
-    /** Storage stub that simulates a successful overwrite and returns an empty report (no invalids). */
+    /** Storage stub whose load report has one invalid entry, at index 0. */
     private static class StorageSuccess implements Storage {
         @Override
         public LoadReport overwriteRawEntryAtIndex(int index, Person corrected) {
@@ -185,9 +109,11 @@ public class FixInvalidCommandTest {
 
         @Override
         public LoadReport readAddressBookWithReport() {
+            LoadReport.InvalidPersonEntry invalid = new LoadReport.InvalidPersonEntry(0, "Invalid field(s): phone",
+                    "Alice", "abc", "a@b.com", "Blk 1", Set.of("phone"));
             return new LoadReport(
                     new LoadReport.ModelData(new seedu.address.model.AddressBook()),
-                    java.util.Collections.emptyList()
+                    List.of(invalid)
             );
         }
 
@@ -200,7 +126,7 @@ public class FixInvalidCommandTest {
         }
     }
 
-    /** Storage stub that always throws IOException from overwriteRawEntryAtIndex. */
+    /** Storage stub that always fails with an IOException, from overwriteRawEntryAtIndex or reading the report. */
     private static class StorageThrowingIo implements Storage {
         @Override
         public LoadReport overwriteRawEntryAtIndex(int index, Person corrected) throws java.io.IOException {
@@ -242,8 +168,8 @@ public class FixInvalidCommandTest {
         public void saveAddressBook(ReadOnlyAddressBook ab, Path path) {}
 
         @Override
-        public LoadReport readAddressBookWithReport() {
-            return null;
+        public LoadReport readAddressBookWithReport() throws DataLoadingException {
+            throw new DataLoadingException(new java.io.IOException("Disk full"));
         }
 
         @Override
@@ -252,7 +178,7 @@ public class FixInvalidCommandTest {
         }
     }
 
-    /** Storage stub that always throws DataLoadingException from overwriteRawEntryAtIndex. */
+    /** Storage stub that always throws DataLoadingException, from overwriteRawEntryAtIndex or reading the report. */
     private static class StorageThrowingDataLoading implements Storage {
         @Override
         public LoadReport overwriteRawEntryAtIndex(int index, Person corrected) throws DataLoadingException {
@@ -294,8 +220,8 @@ public class FixInvalidCommandTest {
         public void saveAddressBook(ReadOnlyAddressBook ab, Path path) {}
 
         @Override
-        public LoadReport readAddressBookWithReport() {
-            return null;
+        public LoadReport readAddressBookWithReport() throws DataLoadingException {
+            throw new DataLoadingException(new java.io.IOException("Corrupt file"));
         }
 
         @Override
@@ -325,7 +251,7 @@ public class FixInvalidCommandTest {
      */
     @Test
     public void execute_success_returnsMessage() throws Exception {
-        ModelStub model = new ModelStub();
+        ModelStubAcceptingPersons model = new ModelStubAcceptingPersons();
         Storage storage = new StorageSuccess();
 
         FixInvalidCommand cmd = new FixInvalidCommand(0, alice(), storage);
@@ -334,12 +260,53 @@ public class FixInvalidCommandTest {
         assertEquals("Fixed invalid entry at index 0.", result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_success_addsPersonAndResolvesEntry() throws Exception {
+        ModelStubAcceptingPersons model = new ModelStubAcceptingPersons();
+        int[] resolved = {-1};
+        Storage storage = new StorageSuccess() {
+            @Override
+            public void resolveInvalidPersons(int index) {
+                resolved[0] = index;
+            }
+        };
+
+        new FixInvalidCommand(0, alice(), storage).execute(model);
+
+        assertEquals(List.of(alice()), model.persons);
+        assertEquals(0, resolved[0]);
+        assertNull(model.getLastSetAddressBook());
+    }
+
+    @Test
+    public void execute_indexNotQuarantined_throwsCommandException() {
+        ModelStubAcceptingPersons model = new ModelStubAcceptingPersons();
+
+        FixInvalidCommand cmd = new FixInvalidCommand(1, alice(), new StorageSuccess());
+
+        CommandException thrown = assertThrows(CommandException.class, () -> cmd.execute(model));
+        assertEquals(String.format(FixInvalidCommand.MESSAGE_NOT_QUARANTINED, 1), thrown.getMessage());
+        assertTrue(model.persons.isEmpty());
+    }
+
+    @Test
+    public void execute_duplicatePerson_throwsCommandException() {
+        ModelStubAcceptingPersons model = new ModelStubAcceptingPersons();
+        model.addPerson(alice());
+
+        FixInvalidCommand cmd = new FixInvalidCommand(0, alice(), new StorageSuccess());
+
+        CommandException thrown = assertThrows(CommandException.class, () -> cmd.execute(model));
+        assertEquals(String.format(FixInvalidCommand.MESSAGE_DUPLICATE_PERSON, 0), thrown.getMessage());
+        assertEquals(1, model.persons.size());
+    }
+
     /**
      * Storage throws IOException; Logic should wrap it into CommandException.
      */
     @Test
     public void execute_storageIoWrappedAsCommandException() {
-        ModelStub model = new ModelStub();
+        ModelStubAcceptingPersons model = new ModelStubAcceptingPersons();
         Storage storage = new StorageThrowingIo();
 
         FixInvalidCommand cmd = new FixInvalidCommand(3, alice(), storage);
@@ -351,7 +318,7 @@ public class FixInvalidCommandTest {
      */
     @Test
     public void execute_storageDataLoadingWrappedAsCommandException() {
-        ModelStub model = new ModelStub();
+        ModelStubAcceptingPersons model = new ModelStubAcceptingPersons();
         Storage storage = new StorageThrowingDataLoading();
 
         FixInvalidCommand cmd = new FixInvalidCommand(2, alice(), storage);
@@ -29,8 +29,8 @@ public class DeleteInterestedPropertyCommandTest {
         Property testProperty = new Property(new Address("123 Main St"), new Price(500000),
                 new PropertyName("Dream Home"));
 
-        person.setInterestedProperty(testProperty);
         model.addProperty(testProperty);
+        model.setPerson(person, person.withInterestedProperty(testProperty));
         System.out.println(person.getInterestedProperties());
 
         DeleteInterestedPropertyCommand command = new DeleteInterestedPropertyCommand(
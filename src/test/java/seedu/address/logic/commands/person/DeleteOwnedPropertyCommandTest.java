@@ -29,8 +29,8 @@ public class DeleteOwnedPropertyCommandTest {
         Property testProperty = new Property(new Address("123 Main St"), new Price(500000),
                 new PropertyName("Dream Home"));
 
-        person.setOwnedProperty(testProperty);
         model.addProperty(testProperty);
+        model.setPerson(person, person.withOwnedProperty(testProperty));
         System.out.println(person.getInterestedProperties());
 
         DeleteOwnedPropertyCommand command = new DeleteOwnedPropertyCommand(
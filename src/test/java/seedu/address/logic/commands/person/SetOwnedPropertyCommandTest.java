@@ -3,26 +3,20 @@ package seedu.address.logic.commands.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
-import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -31,6 +25,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.property.Price;
 import seedu.address.model.property.Property;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ModelStub;
 
 /**
  * Unit tests for {@link SetOwnedPropertyCommand}.
@@ -60,7 +55,7 @@ public class SetOwnedPropertyCommandTest {
         ab.addPerson(alex);
         ab.addProperty(cityLoft);
 
-        ModelStub model = new ModelStub(FXCollections.observableArrayList(alex), ab);
+        ModelStubWithPersons model = new ModelStubWithPersons(FXCollections.observableArrayList(alex), ab);
 
         SetOwnedPropertyCommand cmd = new SetOwnedPropertyCommand(Index.fromOneBased(1), "City Loft");
         CommandResult result = cmd.execute(model);
@@ -103,7 +98,7 @@ public class SetOwnedPropertyCommandTest {
         AddressBook ab = new AddressBook();
         ab.addPerson(alex);
 
-        ModelStub model = new ModelStub(FXCollections.observableArrayList(alex), ab);
+        ModelStubWithPersons model = new ModelStubWithPersons(FXCollections.observableArrayList(alex), ab);
 
         SetOwnedPropertyCommand cmd = new SetOwnedPropertyCommand(Index.fromOneBased(1), "No Such Property");
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
@@ -135,7 +130,7 @@ public class SetOwnedPropertyCommandTest {
         ab.addPerson(alex);
         ab.addProperty(sunny);
 
-        ModelStub model = new ModelStub(FXCollections.observableArrayList(alex), ab);
+        ModelStubWithPersons model = new ModelStubWithPersons(FXCollections.observableArrayList(alex), ab);
 
         SetOwnedPropertyCommand cmd = new SetOwnedPropertyCommand(Index.fromOneBased(2), "Sunny Villa");
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
@@ -166,7 +161,7 @@ public class SetOwnedPropertyCommandTest {
         ab.addPerson(alex);
         ab.addProperty(sunny);
 
-        ModelStub model = new ModelStub(FXCollections.observableArrayList(alex), ab);
+        ModelStubWithPersons model = new ModelStubWithPersons(FXCollections.observableArrayList(alex), ab);
 
         new SetOwnedPropertyCommand(Index.fromOneBased(1), "Sunny Villa").execute(model);
 
@@ -200,7 +195,7 @@ public class SetOwnedPropertyCommandTest {
         ab.addPerson(alex);
         ab.addProperty(sunny);
 
-        ModelStub model = new ModelStub(FXCollections.observableArrayList(alex), ab);
+        ModelStubWithPersons model = new ModelStubWithPersons(FXCollections.observableArrayList(alex), ab);
 
         CommandException ex = assertThrows(CommandException.class, () ->
                 new SetOwnedPropertyCommand(Index.fromOneBased(1),
@@ -211,11 +206,11 @@ public class SetOwnedPropertyCommandTest {
         );
     }
 
-    private static class ModelStub implements Model {
+    private static class ModelStubWithPersons extends ModelStub {
         final ObservableList<Person> persons;
         final AddressBook ab;
 
-        ModelStub(ObservableList<Person> persons, AddressBook ab) {
+        ModelStubWithPersons(ObservableList<Person> persons, AddressBook ab) {
             this.persons = persons;
             this.ab = ab;
         }
@@ -235,74 +230,5 @@ public class SetOwnedPropertyCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return ab;
         }
-
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) { }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            return new UserPrefs();
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            return new GuiSettings();
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) { }
-
-        @Override
-        public Path getAddressBookFilePath() {
-            return null;
-        }
-
-        @Override
-        public void setAddressBookFilePath(Path addressBookFilePath) { }
-
-        @Override
-        public void setAddressBook(ReadOnlyAddressBook addressBook) { }
-
-        @Override
-        public boolean hasPerson(Person person) {
-            return false;
-        }
-
-        @Override
-        public void deletePerson(Person target) { }
-
-        @Override
-        public void addPerson(Person person) { }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) { }
-
-        @Override
-        public void setProperty(Property target, Property editedProperty) { }
-
-        @Override
-        public boolean hasProperty(Property property) {
-            return false;
-        }
-
-        @Override
-        public void deleteProperty(Property target) { }
-
-        @Override
-        public void addProperty(Property property) { }
-
-        @Override
-        public ObservableList<Property> getFilteredPropertyList() {
-            return FXCollections.observableArrayList();
-        }
-
-        @Override
-        public void updateFilteredPropertyList(Predicate<Property> predicate) { }
-
-        @Override
-        public void removePropertyFromAllPersons(Property propertyToDelete) { }
-
-        @Override
-        public void updatePropertyInAllPersons(Property oldProperty, Property newProperty) { }
     }
 }
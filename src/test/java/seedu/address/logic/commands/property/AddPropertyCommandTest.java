@@ -7,24 +7,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
-import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.person.Person;
 import seedu.address.model.property.Property;
+import seedu.address.testutil.ModelStub;
 import seedu.address.testutil.PropertyBuilder;
 
 public class AddPropertyCommandTest {
@@ -51,7 +45,7 @@ public class AddPropertyCommandTest {
     public void execute_duplicatePerson_throwsCommandException() {
         Property validProperty = new PropertyBuilder().build();
         AddPropertyCommand addPropertyCommand = new AddPropertyCommand(validProperty);
-        AddPropertyCommandTest.ModelStub modelStub = new AddPropertyCommandTest.ModelStubWithProperty(validProperty);
+        ModelStub modelStub = new ModelStubWithProperty(validProperty);
 
         assertThrows(CommandException.class, AddPropertyCommand.MESSAGE_DUPLICATE_PROPERTY, () -> addPropertyCommand
                 .execute(modelStub));
@@ -126,7 +120,7 @@ public class AddPropertyCommandTest {
      * A Model stub that is pre-seeded with properties in its AddressBook and accepts new properties.
      * Duplicate detection is based on isSameProperty and the seeded data is visible through getAddressBook().
      */
-    private class ModelStubAcceptingPropertyAddedWithSeed extends AddPropertyCommandTest.ModelStub {
+    private class ModelStubAcceptingPropertyAddedWithSeed extends ModelStub {
         final ArrayList<Property> propertiesAdded = new ArrayList<>();
         final AddressBook backing;
 
@@ -153,123 +147,10 @@ public class AddPropertyCommandTest {
         }
     }
 
-    /**
-     * A default model stub that have all of the methods failing.
-     */
-    private class ModelStub implements Model {
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Path getAddressBookFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setAddressBookFilePath(Path addressBookFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addProperty(Property property) {
-
-        }
-
-        @Override
-        public void setAddressBook(ReadOnlyAddressBook newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasProperty(Property property) {
-            return false;
-        }
-
-        @Override
-        public void deletePerson(Person target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteProperty(Property target) {
-
-        }
-
-        @Override
-        public void setPerson(Person target, Person editedPerson) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setProperty(Property target, Property editedProperty) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Property> getFilteredPropertyList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredPropertyList(Predicate<Property> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removePropertyFromAllPersons(Property propertyToDelete) {
-        }
-
-        @Override
-        public void updatePropertyInAllPersons(Property oldProperty, Property newProperty) {
-        }
-    }
-
     /**
      * A Model stub that contains a single person.
      */
-    private class ModelStubWithProperty extends AddPropertyCommandTest.ModelStub {
+    private class ModelStubWithProperty extends ModelStub {
         private final Property property;
 
         ModelStubWithProperty(Property property) {
@@ -287,7 +168,7 @@ public class AddPropertyCommandTest {
     /**
      * A Model stub that always accept the property being added.
      */
-    private class ModelStubAcceptingPropertyAdded extends AddPropertyCommandTest.ModelStub {
+    private class ModelStubAcceptingPropertyAdded extends ModelStub {
         final ArrayList<Property> propertiesAdded = new ArrayList<>();
 
         @Override
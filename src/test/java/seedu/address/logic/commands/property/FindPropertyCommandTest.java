@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PriceRangePredicate;
 import seedu.address.model.property.PropertyNameContainsKeywordsPredicate;
 
 /**
@@ -74,6 +75,27 @@ public class FindPropertyCommandTest {
         assertEquals(Arrays.asList(PROPERTY_A, PROPERTY_B, PROPERTY_C), model.getFilteredPropertyList());
     }
 
+    @Test
+    public void execute_priceRange_propertiesInRangeFound() {
+        String expectedMessage = String.format(MESSAGE_PROPERTY_LISTED_OVERVIEW, 2);
+        PriceRangePredicate predicate = new PriceRangePredicate(1000000, 1500000);
+        FindPropertyCommand command = new FindPropertyCommand(predicate);
+        expectedModel.updateFilteredPropertyList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(PROPERTY_A, PROPERTY_B), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_nameAndPriceRange_onlyPropertiesMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_PROPERTY_LISTED_OVERVIEW, 1);
+        PriceRangePredicate predicate = new PriceRangePredicate(2000000, null,
+                preparePredicate("Duxton Dawson Interlace"));
+        FindPropertyCommand command = new FindPropertyCommand(predicate);
+        expectedModel.updateFilteredPropertyList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(PROPERTY_C), model.getFilteredPropertyList());
+    }
+
     @Test
     public void toStringMethod() {
         PropertyNameContainsKeywordsPredicate predicate =
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.property.FindPropertyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.property.FindPropertyCommandParser;
+import seedu.address.model.property.PriceRangePredicate;
 import seedu.address.model.property.PropertyNameContainsKeywordsPredicate;
 
 public class FindPropertyCommandParserTest {
@@ -43,4 +44,34 @@ public class FindPropertyCommandParserTest {
     public void parse_emptyNameAfterPrefix_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse("n/   "));
     }
+
+    @Test
+    public void parse_priceRange_returnsFindPropertyCommand() throws ParseException {
+        assertEquals(new FindPropertyCommand(new PriceRangePredicate(500000, 900000)),
+                parser.parse("min/500000 max/900000"));
+        assertEquals(new FindPropertyCommand(new PriceRangePredicate(null, 900000)),
+                parser.parse("max/900000"));
+        assertEquals(new FindPropertyCommand(new PriceRangePredicate(500000, null)),
+                parser.parse(" min/500000 "));
+    }
+
+    @Test
+    public void parse_nameAndPriceRange_returnsFindPropertyCommand() throws ParseException {
+        FindPropertyCommand expected = new FindPropertyCommand(new PriceRangePredicate(null, 900000,
+                new PropertyNameContainsKeywordsPredicate(Arrays.asList("Sunny", "Villa"))));
+        assertEquals(expected, parser.parse("n/Sunny Villa max/900000"));
+    }
+
+    @Test
+    public void parse_invalidPriceBound_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("min/abc"));
+        assertThrows(ParseException.class, () -> parser.parse("max/-1"));
+        assertThrows(ParseException.class, () -> parser.parse("min/"));
+        assertThrows(ParseException.class, () -> parser.parse("min/1 min/2"));
+    }
+
+    @Test
+    public void parse_invertedPriceRange_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("min/900000 max/500000"));
+    }
 }
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -161,6 +162,48 @@ public class AddressBookTest {
         assertThrows(DuplicatePropertyException.class, () -> ab.setProperty(p1, edited));
     }
 
+    @Test
+    public void getPropertyByName_tracksPropertyChanges() {
+        AddressBook ab = new AddressBook();
+        Property original = new Property(new Address("A1"), new Price(100), new PropertyName("Sky Ville"));
+        ab.addProperty(original);
+
+        assertEquals(Optional.of(original), ab.getPropertyByName("Sky Ville"));
+        assertEquals(Optional.empty(), ab.getPropertyByName("sky ville"));
+        assertEquals(Optional.of(original), ab.getPropertyByNameIgnoreCase("  SKY   ville "));
+
+        Property edited = new Property(new Address("A2"), new Price(200), new PropertyName("The Sail"));
+        ab.setProperty(original, edited);
+        assertEquals(Optional.empty(), ab.getPropertyByNameIgnoreCase("sky ville"));
+        assertEquals(Optional.of(edited), ab.getPropertyByName("The Sail"));
+
+        ab.removeProperty(edited);
+        assertEquals(Optional.empty(), ab.getPropertyByNameIgnoreCase("the sail"));
+    }
+
+    @Test
+    public void getVersion_increasesWithEveryChange() {
+        AddressBook ab = new AddressBook();
+        long initial = ab.getVersion();
+
+        ab.addPerson(ALICE);
+        long afterAdd = ab.getVersion();
+        assertTrue(afterAdd > initial);
+
+        Property property = new Property(new Address("A1"), new Price(100), new PropertyName("Sky Ville"));
+        ab.addProperty(property);
+        long afterAddProperty = ab.getVersion();
+        assertTrue(afterAddProperty > afterAdd);
+
+        ab.setPerson(ALICE, ALICE);
+        assertTrue(ab.getVersion() > afterAddProperty);
+
+        long beforeReads = ab.getVersion();
+        ab.hasPerson(ALICE);
+        ab.getPropertyByName("Sky Ville");
+        assertEquals(beforeReads, ab.getVersion());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
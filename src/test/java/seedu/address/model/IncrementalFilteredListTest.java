@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class IncrementalFilteredListTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList();
+    private final IncrementalFilteredList<Integer> filtered = new IncrementalFilteredList<>(source);
+    private final List<Integer> replayed = new ArrayList<>();
+    private int changeCount;
+
+    public IncrementalFilteredListTest() {
+        // Replays every change on a plain list, which ends up equal to the filtered list only if the changes are right
+        filtered.addListener((ListChangeListener<Integer>) change -> {
+            changeCount++;
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    replayed.subList(change.getFrom(), change.getTo()).clear();
+                    replayed.addAll(change.getFrom(), change.getList().subList(change.getFrom(), change.getTo()));
+                    continue;
+                }
+                replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayed.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void narrowPredicate_refinedQuery_onlyRemovalsReported() {
+        setSource(0, 20);
+        filtered.setPredicate(i -> i % 2 == 0);
+        changeCount = 0;
+
+        filtered.narrowPredicate(i -> i % 4 == 0);
+
+        assertEquals(List.of(0, 4, 8, 12, 16), filtered);
+        assertEquals(filtered, replayed);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void widenPredicate_broaderQuery_onlyAdditionsReported() {
+        setSource(0, 20);
+        filtered.setPredicate(i -> i < 5);
+
+        List<ListChangeListener.Change<? extends Integer>> added = new ArrayList<>();
+        filtered.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                assertEquals(0, change.getRemovedSize());
+                added.add(change);
+            }
+        });
+        filtered.widenPredicate(i -> i < 5 || i >= 15);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 15, 16, 17, 18, 19), filtered);
+        assertEquals(filtered, replayed);
+        assertEquals(1, added.size());
+    }
+
+    @Test
+    public void setPredicate_unchangedMatches_noChangeReported() {
+        setSource(0, 10);
+        filtered.setPredicate(i -> i > 3);
+        changeCount = 0;
+
+        filtered.setPredicate(i -> i >= 4);
+
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsFilteredList() {
+        Random random = new Random(42);
+        Predicate<Integer> predicate = i -> i % 3 != 0;
+        setSource(0, 50);
+        filtered.setPredicate(predicate);
+        FilteredList<Integer> expected = new FilteredList<>(source, predicate);
+
+        for (int step = 0; step < 500; step++) {
+            int index = source.isEmpty() ? 0 : random.nextInt(source.size());
+            switch (random.nextInt(5)) {
+            case 0:
+                source.add(index, random.nextInt(100));
+                break;
+            case 1:
+                if (!source.isEmpty()) {
+                    source.remove(index, Math.min(source.size(), index + random.nextInt(4)));
+                }
+                break;
+            case 2:
+                if (!source.isEmpty()) {
+                    source.set(index, random.nextInt(100));
+                }
+                break;
+            case 3:
+                FXCollections.sort(source);
+                break;
+            default:
+                source.addAll(index, List.of(random.nextInt(100), random.nextInt(100)));
+                break;
+            }
+            assertEquals(expected, filtered);
+            assertEquals(filtered, replayed);
+        }
+    }
+
+    private void setSource(int from, int to) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            items.add(i);
+        }
+        source.setAll(items);
+    }
+}
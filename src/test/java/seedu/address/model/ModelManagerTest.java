@@ -7,20 +7,30 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_B;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_C;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.property.Address;
 import seedu.address.model.property.Price;
+import seedu.address.model.property.PriceRangePredicate;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.PropertyName;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -97,6 +107,26 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_refinedQuery_reportsOnlyRemovedPersons() {
+        ModelManager model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("e")));
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+
+        List<Person> removed = new ArrayList<>();
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasAdded());
+                removed.addAll(change.getRemoved());
+            }
+        });
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Be")));
+
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+        assertEquals(List.of(ALICE), removed);
+    }
+
     @Test
     public void hasProperty_nullProperty_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasProperty(null));
@@ -115,11 +145,158 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasProperty(p));
     }
 
+    @Test
+    public void getPersonsWithEmail_tracksPersonEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(unused -> false);
+        assertEquals(List.of(ALICE), modelManager.getPersonsWithEmail(ALICE.getEmail()));
+        assertEquals(List.of(BENSON), modelManager.getPersonsWithPhone(BENSON.getPhone()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("edited@example.com").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertTrue(modelManager.getPersonsWithEmail(ALICE.getEmail()).isEmpty());
+        assertEquals(List.of(editedAlice), modelManager.getPersonsWithEmail(editedAlice.getEmail()));
+        assertEquals(List.of(editedAlice), modelManager.getPersonsWithPhone(ALICE.getPhone()));
+
+        modelManager.deletePerson(BENSON);
+        assertTrue(modelManager.getPersonsWithPhone(BENSON.getPhone()).isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonList_namePredicate_keepsMatchingEditedPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("alice")));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_namePredicate_showsPersonsEditedToMatch() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("alice")));
+
+        Person bensonNamedAlice = new PersonBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.setPerson(BENSON, bensonNamedAlice);
+        modelManager.setPerson(CARL, new PersonBuilder(CARL).withPhone("99999999").build());
+
+        assertEquals(List.of(ALICE, bensonNamedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPropertyList_priceRange_showsPropertiesAddedInRange() {
+        Property inRange = new Property(new Address("1 Example St"), new Price(1000), new PropertyName("P"));
+        Property outOfRange = new Property(new Address("2 Example St"), new Price(5000), new PropertyName("Q"));
+        modelManager.updateFilteredPropertyList(new PriceRangePredicate(500, 2000));
+
+        modelManager.addProperty(inRange);
+        modelManager.addProperty(outOfRange);
+
+        assertEquals(List.of(inRange), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void getOwnersOf_tracksPersonEdits() {
+        Person aliceOwningA = withLinks(ALICE, List.of(PROPERTY_A), List.of(PROPERTY_B));
+        Person bensonInterestedInA = withLinks(BENSON, List.of(), List.of(PROPERTY_A));
+        modelManager.addProperty(PROPERTY_A);
+        modelManager.addProperty(PROPERTY_B);
+        modelManager.addPerson(aliceOwningA);
+        modelManager.addPerson(bensonInterestedInA);
+
+        assertEquals(List.of(aliceOwningA), modelManager.getOwnersOf(PROPERTY_A));
+        assertEquals(List.of(bensonInterestedInA), modelManager.getPersonsInterestedIn(PROPERTY_A));
+        assertEquals(List.of(aliceOwningA), modelManager.getPersonsInterestedIn(PROPERTY_B));
+
+        // link added through a copy, as done by the interested-property command
+        Person bensonInterestedInAB = bensonInterestedInA.withInterestedProperty(PROPERTY_B);
+        modelManager.setPerson(bensonInterestedInA, bensonInterestedInAB);
+        assertEquals(List.of(aliceOwningA, bensonInterestedInAB), modelManager.getPersonsInterestedIn(PROPERTY_B));
+        assertEquals(List.of(bensonInterestedInAB), modelManager.getPersonsInterestedIn(PROPERTY_A));
+
+        modelManager.deletePerson(aliceOwningA);
+        assertTrue(modelManager.getOwnersOf(PROPERTY_A).isEmpty());
+        assertEquals(List.of(bensonInterestedInAB), modelManager.getPersonsInterestedIn(PROPERTY_B));
+    }
+
+    @Test
+    public void isAddressBookDirty_tracksChangesSinceSave() {
+        assertFalse(modelManager.isAddressBookDirty());
+        assertFalse(new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs())
+                .isAddressBookDirty());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertFalse(modelManager.isAddressBookDirty());
+
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.isAddressBookDirty());
+        long version = modelManager.getAddressBookVersion();
+
+        // changed again while the save was being written
+        modelManager.addPerson(BENSON);
+        modelManager.markAddressBookSaved(version);
+        assertTrue(modelManager.isAddressBookDirty());
+
+        modelManager.markAddressBookSaved(modelManager.getAddressBookVersion());
+        assertFalse(modelManager.isAddressBookDirty());
+
+        modelManager.markAddressBookDirty();
+        assertTrue(modelManager.isAddressBookDirty());
+    }
+
+    @Test
+    public void updatePropertyInAllPersons_onlyLinkedPersonsUpdated() {
+        Person aliceOwningA = withLinks(ALICE, List.of(PROPERTY_A), List.of());
+        modelManager.addProperty(PROPERTY_A);
+        modelManager.addPerson(aliceOwningA);
+        modelManager.addPerson(BENSON);
+
+        modelManager.setProperty(PROPERTY_A, PROPERTY_C);
+        modelManager.updatePropertyInAllPersons(PROPERTY_A, PROPERTY_C);
+
+        assertTrue(modelManager.getOwnersOf(PROPERTY_A).isEmpty());
+        assertEquals(1, modelManager.getOwnersOf(PROPERTY_C).size());
+        assertEquals(List.of(PROPERTY_C), modelManager.getOwnersOf(PROPERTY_C).get(0).getOwnedProperties());
+        assertTrue(modelManager.getAddressBook().getPersonList().contains(BENSON));
+    }
+
+    @Test
+    public void removePropertyFromAllPersons_clearsLinks() {
+        Person aliceOwningA = withLinks(ALICE, List.of(PROPERTY_A), List.of());
+        Person bensonInterestedInA = withLinks(BENSON, List.of(), List.of(PROPERTY_A));
+        modelManager.addProperty(PROPERTY_A);
+        modelManager.addPerson(aliceOwningA);
+        modelManager.addPerson(bensonInterestedInA);
+
+        modelManager.removePropertyFromAllPersons(PROPERTY_A);
+
+        assertTrue(modelManager.getOwnersOf(PROPERTY_A).isEmpty());
+        assertTrue(modelManager.getPersonsInterestedIn(PROPERTY_A).isEmpty());
+        for (Person person : modelManager.getAddressBook().getPersonList()) {
+            assertTrue(person.getOwnedProperties().isEmpty());
+            assertTrue(person.getInterestedProperties().isEmpty());
+        }
+        // The persons replaced may still be shown, so they are left as they were
+        assertEquals(List.of(PROPERTY_A), aliceOwningA.getOwnedProperties());
+        assertEquals(List.of(PROPERTY_A), bensonInterestedInA.getInterestedProperties());
+    }
+
     @Test
     public void updateFilteredPersonList_nullPredicate_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonList(null));
     }
 
+    private static Person withLinks(Person person, List<Property> owned, List<Property> interested) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), owned, interested);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -66,6 +70,37 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_agreesWithValidationRegex() {
+        String alphabet = "a@.-_";
+        StringBuilder candidate = new StringBuilder();
+        checkAllStrings(alphabet, candidate, 6);
+    }
+
+    @Test
+    public void isValidEmail_longNearMatch_returnsPromptly() {
+        // The regex backtracks exponentially on this input
+        String nearMatch = "peterjack@" + "a".repeat(10000) + "!";
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> assertFalse(Email.isValidEmail(nearMatch)));
+    }
+
+    /**
+     * Checks {@code Email.isValidEmail} against {@code Email.VALIDATION_REGEX} for every extension of
+     * {@code candidate} by up to {@code remaining} characters of {@code alphabet}.
+     */
+    private static void checkAllStrings(String alphabet, StringBuilder candidate, int remaining) {
+        String test = candidate.toString();
+        assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        if (remaining == 0) {
+            return;
+        }
+        for (char c : alphabet.toCharArray()) {
+            candidate.append(c);
+            checkAllStrings(alphabet, candidate, remaining - 1);
+            candidate.setLength(candidate.length() - 1);
+        }
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -77,6 +77,25 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void isNarrowerThan() {
+        NameContainsKeywordsPredicate broad = new NameContainsKeywordsPredicate(Arrays.asList("ali", "bo"));
+
+        // Each keyword contains a broader keyword -> narrower
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("Alic")).isNarrowerThan(broad));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("alice", "BOB")).isNarrowerThan(broad));
+
+        // Fewer keywords -> narrower
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("ali")).isNarrowerThan(broad));
+
+        // A keyword containing none of the broader keywords -> not narrower
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("alice", "carl")).isNarrowerThan(broad));
+        assertFalse(broad.isNarrowerThan(new NameContainsKeywordsPredicate(Arrays.asList("alice"))));
+
+        // Different predicate type -> not narrower
+        assertFalse(broad.isNarrowerThan(new TagContainsKeywordsPredicate(Arrays.asList("ali", "bo"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
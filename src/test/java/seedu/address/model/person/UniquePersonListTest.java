@@ -7,12 +7,17 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -47,6 +52,21 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameIdentityDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withEmail(ALICE.getEmail().value.toUpperCase()).withTags().build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +122,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -141,6 +171,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((List<Person>) null));
@@ -162,6 +200,64 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsEveryOffendingPosition() {
+        List<Person> persons = Arrays.asList(ALICE, BOB, ALICE, BENSON, BOB);
+        DuplicatePersonException e = Assertions.assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(persons));
+        assertEquals(List.of(2, 4), e.getDuplicatePositions());
+    }
+
+    @Test
+    public void findDuplicates_mapsEachDuplicateToFirstOccurrence() {
+        Person aliceDifferentCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> persons = Arrays.asList(ALICE, BOB, aliceDifferentCase, BOB, BENSON);
+        assertEquals(Map.of(2, 0, 3, 1), UniquePersonList.findDuplicates(persons));
+        assertTrue(UniquePersonList.findDuplicates(Arrays.asList(ALICE, BOB, BENSON)).isEmpty());
+    }
+
+    @Test
+    public void findByName_agreesWithPredicate() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, BENSON));
+        Person renamed = new PersonBuilder(BENSON).withName("Alicia Bensonite").build();
+        uniquePersonList.setPerson(BENSON, renamed);
+
+        for (List<String> keywords : List.<List<String>>of(List.of("ali"), List.of("ALICE"),
+                List.of("bensonite", "bob"), List.of("e"), List.of("li", "zz"), List.of("xyz"), List.of())) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<Person> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            uniquePersonList.asUnmodifiableObservableList().stream().filter(predicate).forEach(expected::add);
+            assertEquals(expected, uniquePersonList.findByName(keywords), keywords.toString());
+        }
+    }
+
+    @Test
+    public void findByTags_andCountWithTag_trackMutations() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB));
+
+        assertEquals(identitySetOf(ALICE, BENSON), uniquePersonList.findByAnyTag(List.of("FRIENDS")));
+        assertEquals(identitySetOf(BENSON, BOB),
+                uniquePersonList.findByAnyTag(List.of("owesmoney", VALID_TAG_HUSBAND)));
+        assertEquals(identitySetOf(BENSON), uniquePersonList.findByAllTags(List.of("friends", "owesMoney")));
+        assertEquals(identitySetOf(), uniquePersonList.findByAllTags(List.of("friends", "unknown")));
+        assertEquals(2, uniquePersonList.countWithTag("Friends"));
+
+        uniquePersonList.remove(ALICE);
+        Person untaggedBob = new PersonBuilder(BOB).withTags().build();
+        uniquePersonList.setPerson(BOB, untaggedBob);
+        assertEquals(1, uniquePersonList.countWithTag("friends"));
+        assertEquals(0, uniquePersonList.countWithTag(VALID_TAG_HUSBAND));
+
+        uniquePersonList.add(ALICE);
+        assertEquals(identitySetOf(ALICE, BENSON), uniquePersonList.findByAnyTag(List.of("friends")));
+    }
+
+    private static Set<Person> identitySetOf(Person... persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(Arrays.asList(persons));
+        return set;
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the cost per person record of the field validators with that of calling {@code String.matches} on their
+ * regexes, which is what the validators did before their patterns were compiled once.
+ * <p>
+ * This is not run as part of the tests. Run its {@code main} method from the test classpath.
+ */
+public class ValidatorBenchmark {
+
+    private static final int RECORDS = 10_000;
+    private static final int ROUNDS = 20;
+
+    private static final String[] NAMES = {"Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier"};
+    private static final String[] PHONES = {"94351253", "98765432", "95352563", "87652533"};
+    private static final String[] EMAILS = {"alice@example.com", "johnd@example.com", "heinz@example.com",
+        "cornelia@u.nus.edu"};
+    private static final String[] ADDRESSES = {"123, Jurong West Ave 6, #08-111", "311, Clementi Ave 2, #02-25",
+        "wall street", "10th street"};
+    private static final String[] TAGS = {"friends", "owesMoney", "colleagues", "family"};
+
+    public static void main(String[] args) {
+        long sink = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += validateWithStringMatches();
+            long regexNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            sink += validateWithValidators();
+            long validatorNanos = System.nanoTime() - start;
+
+            System.out.printf("round %2d: String.matches %6.0f ns/record, validators %6.0f ns/record%n",
+                    round, (double) regexNanos / RECORDS, (double) validatorNanos / RECORDS);
+        }
+        System.out.println("(valid fields counted: " + sink + ")");
+    }
+
+    private static int validateWithStringMatches() {
+        int valid = 0;
+        for (int i = 0; i < RECORDS; i++) {
+            int k = i % NAMES.length;
+            valid += NAMES[k].matches(Name.VALIDATION_REGEX) & NAMES[k].length() <= 50 ? 1 : 0;
+            valid += PHONES[k].matches(Phone.VALIDATION_REGEX) ? 1 : 0;
+            valid += EMAILS[k].matches(Email.VALIDATION_REGEX) ? 1 : 0;
+            valid += ADDRESSES[k].matches(Address.VALIDATION_REGEX) ? 1 : 0;
+            valid += TAGS[k].matches(Tag.VALIDATION_REGEX) & TAGS[k].length() <= 30 ? 1 : 0;
+        }
+        return valid;
+    }
+
+    private static int validateWithValidators() {
+        int valid = 0;
+        for (int i = 0; i < RECORDS; i++) {
+            int k = i % NAMES.length;
+            valid += Name.isValidName(NAMES[k]) ? 1 : 0;
+            valid += Phone.isValidPhone(PHONES[k]) ? 1 : 0;
+            valid += Email.isValidEmail(EMAILS[k]) ? 1 : 0;
+            valid += Address.isValidAddress(ADDRESSES[k]) ? 1 : 0;
+            valid += Tag.isValidTagName(TAGS[k]) ? 1 : 0;
+        }
+        return valid;
+    }
+}
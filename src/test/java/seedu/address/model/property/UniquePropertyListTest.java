@@ -1,11 +1,13 @@
 package seedu.address.model.property;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,12 +65,51 @@ public class UniquePropertyListTest {
         assertTrue(uniqueList.contains(pASameNameDifferentFields));
     }
 
+    @Test
+    public void contains_sameLooseAddressDifferentName_returnsTrue() {
+        uniqueList.add(pA);
+        Property sameAddress = new Property(new Address("addr,  a!"), new Price(400), new PropertyName("Other"));
+        assertTrue(uniqueList.contains(sameAddress));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniqueList.add(pA);
+        uniqueList.remove(pA);
+        assertFalse(uniqueList.contains(pA));
+    }
+
+    @Test
+    public void setProperty_differentIdentity_updatesIdentityLookup() {
+        uniqueList.add(pA);
+        uniqueList.setProperty(pA, pB);
+        assertFalse(uniqueList.contains(pA));
+        assertTrue(uniqueList.contains(pB));
+    }
+
     @Test
     public void setProperties_withDuplicateInList_throwsDuplicatePropertyException() {
         List<Property> listWithDup = Arrays.asList(pA, pASameNameDifferentFields);
         assertThrows(DuplicatePropertyException.class, () -> uniqueList.setProperties(listWithDup));
     }
 
+    @Test
+    public void setProperties_listWithSeveralDuplicates_reportsEveryOffendingPosition() {
+        Property pBSameAddress = new Property(new Address("addr  b"), new Price(400), new PropertyName("Other"));
+        List<Property> list = Arrays.asList(pA, pB, pASameNameDifferentFields, pBSameAddress);
+        DuplicatePropertyException e = assertThrows(DuplicatePropertyException.class, () ->
+                uniqueList.setProperties(list));
+        assertEquals(List.of(2, 3), e.getDuplicatePositions());
+    }
+
+    @Test
+    public void findDuplicates_onlyEarlierAcceptedEntriesCount() {
+        // Shares pA's name and pB's address; since it is rejected, pB is not a duplicate of it.
+        Property clash = new Property(new Address("Addr B"), new Price(1), new PropertyName("NameA"));
+        List<Property> list = Arrays.asList(pA, clash, pB);
+        assertEquals(Map.of(1, 0), UniquePropertyList.findDuplicates(list));
+    }
+
     @Test
     public void setProperties_replacesSuccessfully() {
         uniqueList.add(pA);
@@ -79,6 +120,25 @@ public class UniquePropertyListTest {
         assertTrue(uniqueList.contains(pB));
     }
 
+    @Test
+    public void getPropertiesInPriceRange_tracksMutations() {
+        uniqueList.add(pB);
+        uniqueList.add(pA);
+        assertEquals(List.of(pA, pB), uniqueList.getPropertiesInPriceRange(0, Integer.MAX_VALUE));
+        assertEquals(List.of(pB), uniqueList.getPropertiesInPriceRange(150, 200));
+        assertEquals(List.of(), uniqueList.getPropertiesInPriceRange(201, 100));
+
+        Property pACheaper = new Property(new Address("Addr A"), new Price(50), new PropertyName("NameA"));
+        uniqueList.setProperty(pA, pACheaper);
+        assertEquals(List.of(pACheaper), uniqueList.getPropertiesInPriceRange(0, 100));
+
+        uniqueList.remove(pB);
+        assertEquals(List.of(), uniqueList.getPropertiesInPriceRange(150, 200));
+
+        uniqueList.setProperties(List.of(pB, pA));
+        assertEquals(List.of(pA, pB), uniqueList.getPropertiesInPriceRange(100, 200));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modify_throws() {
         uniqueList.add(pA);
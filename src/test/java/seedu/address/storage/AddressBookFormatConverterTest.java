@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class AddressBookFormatConverterTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void jsonToBinaryToJson_roundTrip_sameAddressBook() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addProperty(PROPERTY_A);
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        Path binaryFile = testFolder.resolve("addressbook.bin");
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+
+        AddressBookFormatConverter.jsonToBinary(jsonFile, binaryFile);
+        assertEquals(addressBook, new BinaryAddressBookStorage(binaryFile).readAddressBook().get());
+
+        AddressBookFormatConverter.binaryToJson(binaryFile, convertedJsonFile);
+        assertEquals(addressBook, new JsonAddressBookStorage(convertedJsonFile).readAddressBook().get());
+    }
+
+    @Test
+    public void jsonToBinary_invalidEntries_leftOutAndReported() throws Exception {
+        Path jsonFile = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        Path binaryFile = testFolder.resolve("addressbook.bin");
+
+        LoadReport report = AddressBookFormatConverter.jsonToBinary(jsonFile, binaryFile);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(binaryFile);
+        assertEquals(report.getModelData().getAddressBook(), storage.readAddressBook().get());
+        assertEquals(1, report.getInvalids().size());
+        assertEquals(report.getInvalids().get(0).index(),
+                storage.readAddressBookWithReport(binaryFile).getInvalids().get(0).index());
+
+        // Saving drops them, as saving the JSON file does
+        storage.saveAddressBook(report.getModelData().getAddressBook());
+        assertTrue(storage.readAddressBookWithReport(binaryFile).getInvalids().isEmpty());
+    }
+
+    @Test
+    public void jsonToSegmented_invalidEntries_reportedUntilSaved() throws Exception {
+        Path jsonFile = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        Path manifestFile = SegmentedAddressBookStorage.manifestPathFor(testFolder.resolve("addressbook.json"));
+
+        LoadReport report = AddressBookFormatConverter.jsonToSegmented(jsonFile, manifestFile);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(manifestFile);
+        assertEquals(report.getInvalids().get(0).reason(),
+                storage.readAddressBookWithReport(manifestFile).getInvalids().get(0).reason());
+        storage.saveAddressBook(report.getModelData().getAddressBook());
+        assertTrue(storage.readAddressBookWithReport(manifestFile).getInvalids().isEmpty());
+    }
+
+    @Test
+    public void moveBinaryToJson_savedSinceConversion_jsonFileUpdated() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        Path binaryFile = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+        AddressBookFormatConverter.jsonToBinary(jsonFile, binaryFile);
+        addressBook.addProperty(PROPERTY_A);
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(addressBook);
+
+        AddressBookFormatConverter.moveBinaryToJson(binaryFile, jsonFile);
+
+        assertEquals(addressBook, new JsonAddressBookStorage(jsonFile).readAddressBook().get());
+        assertFalse(Files.exists(binaryFile));
+    }
+
+    @Test
+    public void moveBinaryToJson_unchangedWithInvalidEntries_jsonFileKept() throws Exception {
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        Path binaryFile = testFolder.resolve("addressbook.bin");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"), jsonFile);
+        byte[] original = Files.readAllBytes(jsonFile);
+        AddressBookFormatConverter.jsonToBinary(jsonFile, binaryFile);
+
+        AddressBookFormatConverter.moveBinaryToJson(binaryFile, jsonFile);
+
+        assertArrayEquals(original, Files.readAllBytes(jsonFile));
+        assertFalse(Files.exists(binaryFile));
+        assertFalse(Files.exists(InvalidEntriesFile.pathFor(binaryFile)));
+    }
+
+    @Test
+    public void moveSegmentedToJson_savedSinceConversion_jsonFileUpdatedAndSegmentsDeleted() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        Path manifestFile = SegmentedAddressBookStorage.manifestPathFor(jsonFile);
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+        AddressBookFormatConverter.jsonToSegmented(jsonFile, manifestFile);
+        addressBook.addProperty(PROPERTY_A);
+        new SegmentedAddressBookStorage(manifestFile).saveAddressBook(addressBook);
+
+        AddressBookFormatConverter.moveSegmentedToJson(manifestFile, jsonFile);
+
+        assertEquals(addressBook, new JsonAddressBookStorage(jsonFile).readAddressBook().get());
+        assertFalse(Files.exists(manifestFile.getParent()));
+    }
+
+    @Test
+    public void jsonToSegmentedToJson_roundTrip_sameAddressBook() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addProperty(PROPERTY_A);
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        Path manifestFile = SegmentedAddressBookStorage.manifestPathFor(jsonFile);
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+
+        AddressBookFormatConverter.jsonToSegmented(jsonFile, manifestFile);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(manifestFile).readAddressBook().get());
+
+        AddressBookFormatConverter.segmentedToJson(manifestFile, convertedJsonFile);
+        assertEquals(addressBook, new JsonAddressBookStorage(convertedJsonFile).readAddressBook().get());
+    }
+
+    @Test
+    public void binaryToJson_missingSnapshot_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.binaryToJson(
+                testFolder.resolve("missing.bin"), testFolder.resolve("out.json")));
+    }
+}
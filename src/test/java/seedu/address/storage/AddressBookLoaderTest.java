@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_B;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+
+    private static final int PERSON_COUNT = AddressBookLoader.CHUNK_SIZE * 2 + 10;
+
+    @Test
+    public void finish_manyChunks_sameOrderIndicesAndDuplicatesAsFile() {
+        AddressBookLoader loader = new AddressBookLoader();
+        List<Person> expectedPersons = new ArrayList<>();
+
+        // Persons before properties are kept until the properties end
+        Person base = new PersonBuilder().withName("Owner").build();
+        Person owner = new Person(base.getName(), base.getPhone(), base.getEmail(), base.getAddress(),
+                base.getTags(), List.of(PROPERTY_A), List.of());
+        loader.addPerson(new JsonAdaptedPerson(owner));
+        expectedPersons.add(owner);
+
+        loader.addProperty(new JsonAdaptedProperty(PROPERTY_A));
+        loader.addProperty(new JsonAdaptedProperty(PROPERTY_B));
+        loader.addProperty(new JsonAdaptedProperty(PROPERTY_A));
+        loader.endProperties();
+
+        for (int i = 1; i < PERSON_COUNT; i++) {
+            if (i % 100 == 0) {
+                loader.addPerson(invalidPerson(i));
+            } else if (i == PERSON_COUNT - 1) {
+                // Duplicates a person in the first chunk, from the last one
+                loader.addPerson(new JsonAdaptedPerson(person(5)));
+            } else {
+                loader.addPerson(new JsonAdaptedPerson(person(i)));
+                expectedPersons.add(person(i));
+            }
+        }
+
+        LoadReport report = loader.finish();
+
+        assertEquals(expectedPersons, report.getModelData().getAddressBook().getPersonList());
+        assertEquals(List.<Property>of(PROPERTY_A, PROPERTY_B),
+                report.getModelData().getAddressBook().getPropertyList());
+
+        List<Integer> expectedInvalidIndices = new ArrayList<>();
+        for (int i = 100; i < PERSON_COUNT; i += 100) {
+            expectedInvalidIndices.add(i);
+        }
+        expectedInvalidIndices.add(PERSON_COUNT - 1);
+        assertEquals(expectedInvalidIndices, report.getInvalids().stream()
+                .map(LoadReport.InvalidPersonEntry::index).collect(Collectors.toList()));
+        assertEquals(Optional.of(5), report.getInvalids().get(report.getInvalids().size() - 1).duplicateOf());
+
+        assertEquals(1, report.getInvalidPropertyEntries().size());
+        assertEquals(2, report.getInvalidPropertyEntries().get(0).index());
+        assertEquals(Optional.of(0), report.getInvalidPropertyEntries().get(0).duplicateOf());
+    }
+
+    private static Person person(int i) {
+        return new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                .withEmail("person" + i + "@example.com").build();
+    }
+
+    private static JsonAdaptedPerson invalidPerson(int i) {
+        Person valid = person(i);
+        return new JsonAdaptedPerson(valid.getName().fullName, "not a phone", valid.getEmail().value,
+                valid.getAddress().value, List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_B;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook addressBook;
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addProperty(PROPERTY_A);
+        addressBook.addProperty(PROPERTY_B);
+        Person owner = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getTags(), List.of(PROPERTY_A), List.of(PROPERTY_B, PROPERTY_A));
+        addressBook.setPerson(ALICE, owner);
+
+        filePath = testFolder.resolve("data").resolve("addressbook.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_sameAddressBook() throws Exception {
+        storage.saveAddressBook(addressBook);
+
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(addressBook, read);
+        Person owner = read.getPersonList().get(0);
+        assertEquals(List.of(PROPERTY_A), owner.getOwnedProperties());
+        assertEquals(List.of(PROPERTY_B, PROPERTY_A), owner.getInterestedProperties());
+        // Linked properties are the address book's own instances, as when loading from JSON
+        assertSame(read.getPropertyList().get(0), owner.getOwnedProperties().get(0));
+    }
+
+    @Test
+    public void prepareSave_laterChanges_notWritten() throws Exception {
+        PendingSave save = storage.prepareSave(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+
+        save.write();
+
+        assertEquals(expected, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        Files.createDirectories(filePath.getParent());
+        Files.writeString(filePath, "{ \"persons\": [] }");
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void overwriteRawEntryAtIndex_validIndex_replacesPerson() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Person edited = new PersonBuilder(BENSON).withPhone("88888888").build();
+
+        LoadReport report = storage.overwriteRawEntryAtIndex(1, edited);
+
+        assertEquals(edited, report.getModelData().getAddressBook().getPersonList().get(1));
+        assertTrue(report.getInvalids().isEmpty());
+    }
+
+    @Test
+    public void snapshotPathFor_jsonPath_replacesExtension() {
+        assertEquals(Paths.get("data", "estatesearch.bin"),
+                BinaryAddressBookStorage.snapshotPathFor(Paths.get("data", "estatesearch.json")));
+        assertEquals(Paths.get("data", "book.bin"),
+                BinaryAddressBookStorage.snapshotPathFor(Paths.get("data", "book")));
+    }
+}
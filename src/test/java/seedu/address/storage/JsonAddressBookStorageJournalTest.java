@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_B;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookStorageJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = testFolder.resolve("addressbook.json" + AddressBookJournal.JOURNAL_SUFFIX);
+        storage = new JsonAddressBookStorage(filePath, true);
+        addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addProperty(PROPERTY_A);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Test
+    public void saveAddressBook_sameAddressBook_appendsChangesOnly() throws Exception {
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        addressBook.removePerson(ALICE);
+        addressBook.addProperty(PROPERTY_B);
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(5, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, storage.readAddressBook().get());
+        assertEquals(addressBook, storage.readAddressBookWithReport(filePath).getModelData().getAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_writesNothing() throws Exception {
+        byte[] snapshot = Files.readAllBytes(filePath);
+        List<String> journal = Files.readAllLines(journalPath);
+
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(journal, Files.readAllLines(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_otherAddressBook_writesInFull() throws Exception {
+        AddressBook other = new AddressBook(addressBook);
+        other.addPerson(HOON);
+        storage.saveAddressBook(other);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(other, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_mostRecordsReplaced_writesInFull() throws Exception {
+        AddressBook replacement = new AddressBook();
+        for (int i = 0; i < 1500; i++) {
+            replacement.addPerson(new PersonBuilder().withName("Person " + i).withPhone("9" + (1000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        addressBook.resetData(replacement);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_appendFailed_laterAppendsDropped() throws Exception {
+        List<String> journal = Files.readAllLines(journalPath);
+        addressBook.addPerson(HOON);
+        PendingSave failing = storage.prepareSave(addressBook);
+        addressBook.removePerson(ALICE);
+        PendingSave later = storage.prepareSave(addressBook);
+
+        Files.delete(journalPath);
+        Files.createDirectory(journalPath);
+        assertThrows(IOException.class, failing::write);
+        Files.delete(journalPath);
+        Files.write(journalPath, journal);
+        later.write();
+
+        assertEquals(journal, Files.readAllLines(journalPath));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_replaysEarlierEntries() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+
+        Files.write(journalPath, "{\"op\":\"add\",\"li".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(expected, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileReplacedByHand_ignoresJournal() throws Exception {
+        AddressBook replaced = new AddressBook();
+        replaced.addPerson(IDA);
+        new JsonAddressBookStorage(testFolder.resolve("other.json")).saveAddressBook(replaced);
+        Files.copy(testFolder.resolve("other.json"), filePath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(replaced, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void overwriteRawEntryAtIndex_pendingJournal_foldsJournalFirst() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Person edited = new PersonBuilder(ALICE).withPhone("88888888").build();
+        AddressBook reloaded = storage.overwriteRawEntryAtIndex(0, edited).getModelData().getAddressBook();
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(edited.getPhone(), reloaded.getPersonList().get(0).getPhone());
+        assertTrue(reloaded.hasPerson(HOON));
+    }
+
+    @Test
+    public void saveAddressBook_notJournaled_removesJournal() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+}
@@ -106,6 +106,19 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    /**
+     * Ensures that the report links each duplicate person to the earlier entry it duplicates.
+     */
+    @Test
+    public void toModelTypeWithReport_duplicatePersons_reportsDuplicateOf() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook.class).get();
+        LoadReport report = dataFromFile.toModelTypeWithReport();
+        assertEquals(1, report.getInvalids().size());
+        assertEquals(1, report.getInvalids().get(0).index());
+        assertEquals(java.util.Optional.of(0), report.getInvalids().get(0).duplicateOf());
+    }
+
     /**
      * Ensures that swapping two entries via replaceAt changes the resulting model without introducing duplicates.
      */
@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_B;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_C;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook addressBook;
+    private Path filePath;
+    private SegmentedAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addProperty(PROPERTY_A);
+        addressBook.addProperty(PROPERTY_B);
+
+        filePath = SegmentedAddressBookStorage.manifestPathFor(testFolder.resolve("addressbook.json"));
+        storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_sameAddressBook() throws Exception {
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+        assertEquals(addressBook, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_rewritesOnlyItsSegment() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> before = segmentFiles();
+
+        Person target = addressBook.getPersonList().get(4);
+        addressBook.setPerson(target, new PersonBuilder(target).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(Set.of("persons-2.2.json"), difference(segmentFiles(), before));
+        assertEquals(1, difference(before, segmentFiles()).size());
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_propertyAdded_rewritesOnlyPropertiesSegment() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> before = segmentFiles();
+
+        addressBook.addProperty(PROPERTY_C);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(Set.of("properties.2.json"), difference(segmentFiles(), before));
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_personAddedAndRemoved_sameAddressBook() throws Exception {
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+
+        addressBook.removePerson(BENSON);
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherInstanceWithSameData_writesNoSegments() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> before = segmentFiles();
+
+        storage.saveAddressBook(new AddressBook(addressBook));
+
+        assertEquals(before, segmentFiles());
+    }
+
+    @Test
+    public void prepareSave_laterChanges_notWritten() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Person target = addressBook.getPersonList().get(0);
+        addressBook.setPerson(target, new PersonBuilder(target).withPhone("99999999").build());
+        PendingSave save = storage.prepareSave(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+
+        save.write();
+
+        assertEquals(expected, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedSegment_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Path segment = filePath.resolveSibling("persons-1.1.json");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 2] ^= 1;
+        Files.write(segment, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void overwriteRawEntryAtIndex_validIndex_replacesPerson() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Person edited = new PersonBuilder(addressBook.getPersonList().get(3)).withPhone("88888888").build();
+
+        LoadReport report = storage.overwriteRawEntryAtIndex(3, edited);
+
+        assertEquals(edited, report.getModelData().getAddressBook().getPersonList().get(3));
+        assertTrue(report.getInvalids().isEmpty());
+        assertThrows(IOException.class, () -> storage.overwriteRawEntryAtIndex(addressBook.getPersonList().size(),
+                edited));
+    }
+
+    @Test
+    public void manifestPathFor_jsonPath_segmentsDirectory() {
+        assertEquals(Paths.get("data", "estatesearch.segments", "manifest.json"),
+                SegmentedAddressBookStorage.manifestPathFor(Paths.get("data", "estatesearch.json")));
+    }
+
+    private Set<String> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> !name.equals(filePath.getFileName().toString()))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static Set<String> difference(Set<String> files, Set<String> others) {
+        Set<String> difference = new HashSet<>(files);
+        difference.removeAll(others);
+        return difference;
+    }
+}
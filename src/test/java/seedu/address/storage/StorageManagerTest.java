@@ -1,8 +1,13 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,6 +69,75 @@ public class StorageManagerTest {
     }
     */
 
+    @Test
+    public void saveAddressBook_writeBehind_writtenByFlush() throws Exception {
+        StorageManager writeBehind = new StorageManager(new JsonAddressBookStorage(getTempFilePath("wb")),
+                new JsonUserPrefsStorage(getTempFilePath("wbprefs")), true);
+        AddressBook original = seedu.address.testutil.TypicalPersons.getTypicalAddressBook();
+        writeBehind.saveAddressBook(original);
+        writeBehind.flushAddressBook();
+
+        Assertions.assertEquals(original, writeBehind.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindBurst_skipsSupersededSaves() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = Collections.synchronizedList(new ArrayList<>());
+        AddressBookStorage blocking = new JsonAddressBookStorage(getTempFilePath("burst")) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+                return () -> {
+                    firstWriteStarted.countDown();
+                    try {
+                        releaseFirstWrite.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    written.add(addressBook);
+                };
+            }
+        };
+        StorageManager writeBehind = new StorageManager(blocking,
+                new JsonUserPrefsStorage(getTempFilePath("burstprefs")), true);
+
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        AddressBook third = new AddressBook();
+        writeBehind.saveAddressBook(first);
+        firstWriteStarted.await();
+        writeBehind.saveAddressBook(second);
+        writeBehind.saveAddressBook(third);
+        releaseFirstWrite.countDown();
+        writeBehind.flushAddressBook();
+
+        Assertions.assertEquals(2, written.size());
+        Assertions.assertSame(first, written.get(0));
+        Assertions.assertSame(third, written.get(1));
+    }
+
+    @Test
+    public void flushAddressBook_backgroundSaveFailed_throwsOnce() throws Exception {
+        IOException failure = new IOException("disk full");
+        AddressBookStorage failing = new JsonAddressBookStorage(getTempFilePath("failing")) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+                return () -> {
+                    throw failure;
+                };
+            }
+        };
+        StorageManager writeBehind = new StorageManager(failing,
+                new JsonUserPrefsStorage(getTempFilePath("failingprefs")), true);
+
+        writeBehind.saveAddressBook(new AddressBook());
+
+        IOException thrown = Assertions.assertThrows(IOException.class, writeBehind::flushAddressBook);
+        Assertions.assertSame(failure, thrown);
+        Assertions.assertTrue(writeBehind.takeBackgroundSaveFailure().isEmpty());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         Assertions.assertNotNull(storageManager.getAddressBookFilePath());
@@ -124,6 +198,54 @@ public class StorageManagerTest {
                 "Valid + invalid should equal number of raw JSON entries.");
     }
 
+    @Test
+    public void getLoadReport_afterFix_keptWithoutFixedEntries() throws Exception {
+        Path invalidOnly = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        StorageManager mgr = new StorageManager(
+                new JsonAddressBookStorage(invalidOnly),
+                new JsonUserPrefsStorage(getTempFilePath("prefs4"))
+        );
+
+        LoadReport report = mgr.getLoadReport();
+        Assertions.assertFalse(report.getInvalids().isEmpty());
+        Assertions.assertSame(report, mgr.getLoadReport());
+
+        int fixedIndex = report.getInvalids().get(0).index();
+        mgr.resolveInvalidPersons(fixedIndex);
+
+        LoadReport kept = mgr.getLoadReport();
+        Assertions.assertTrue(kept.getInvalids().stream().noneMatch(entry -> entry.index() == fixedIndex));
+        Assertions.assertTrue(kept.getModelData().getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void readAddressBookWithReport_keptReportHasNoModelData() throws Exception {
+        Path mixed = TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json");
+        StorageManager mgr = new StorageManager(
+                new JsonAddressBookStorage(mixed),
+                new JsonUserPrefsStorage(getTempFilePath("prefs5"))
+        );
+
+        LoadReport report = mgr.readAddressBookWithReport();
+        LoadReport kept = mgr.getLoadReport();
+
+        Assertions.assertFalse(report.getModelData().getAddressBook().getPersonList().isEmpty());
+        Assertions.assertTrue(kept.getModelData().getAddressBook().getPersonList().isEmpty());
+        Assertions.assertEquals(report.getInvalids(), kept.getInvalids());
+    }
+
+    @Test
+    public void getLoadReport_reportKept_fileNotRead() throws Exception {
+        StorageManager mgr = new StorageManager(
+                new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs6"))
+        );
+
+        mgr.keepLoadReport(LoadReport.fromAddressBook(new AddressBook()));
+
+        Assertions.assertTrue(mgr.getLoadReport().getInvalids().isEmpty());
+    }
+
     @Test
     public void readAddressBookWithReport_noArg_usesConfiguredPath() throws Exception {
         // Arrange: stub AddressBookStorage that records the path it was called with
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class StreamingAddressBookReaderTest {
+
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path STORAGE_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_testDataFiles_sameReportAsDataBinding() throws Exception {
+        for (Path file : List.of(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"),
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"),
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json"),
+                STORAGE_TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"),
+                STORAGE_TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"))) {
+            LoadReport expected = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get()
+                    .toModelTypeWithReport();
+            assertSameReport(expected, StreamingAddressBookReader.read(file, Optional.empty()));
+        }
+    }
+
+    @Test
+    public void read_personsBeforeProperties_resolvesProperties() throws Exception {
+        Person owner = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getTags(), List.of(PROPERTY_A), List.of());
+        String json = "{ \"persons\": [ " + JsonUtil.toJsonString(new JsonAdaptedPerson(owner)) + " ], "
+                + "\"properties\": [ " + JsonUtil.toJsonString(new JsonAdaptedProperty(PROPERTY_A)) + " ] }";
+        Path file = write(json);
+
+        LoadReport report = StreamingAddressBookReader.read(file, Optional.empty());
+
+        assertTrue(report.getInvalids().isEmpty());
+        assertEquals(List.of(PROPERTY_A),
+                report.getModelData().getAddressBook().getPersonList().get(0).getOwnedProperties());
+    }
+
+    @Test
+    public void read_withChanges_mergesChangesIntoRecords() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Path file = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), file);
+
+        Person edited = new PersonBuilder(addressBook.getPersonList().get(2)).withPhone("99999999").build();
+        List<JsonAdaptedJournalEntry> entries = List.of(
+                JsonAdaptedJournalEntry.removal(JsonAdaptedJournalEntry.LIST_PERSONS, 0),
+                JsonAdaptedJournalEntry.ofPerson(JsonAdaptedJournalEntry.OP_SET, 1, edited),
+                JsonAdaptedJournalEntry.ofPerson(JsonAdaptedJournalEntry.OP_ADD, 3, HOON),
+                JsonAdaptedJournalEntry.ofProperty(JsonAdaptedJournalEntry.OP_ADD, 0, PROPERTY_A));
+        AddressBookJournal.Changes changes = new AddressBookJournal.Changes(
+                addressBook.getPersonList().size(), addressBook.getPropertyList().size(), entries);
+
+        LoadReport expected = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get()
+                .withChanges(entries).toModelTypeWithReport();
+        assertSameReport(expected, StreamingAddressBookReader.read(file, Optional.of(changes)));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        assertThrows(IOException.class, () -> StreamingAddressBookReader.read(write("[]"), Optional.empty()));
+        assertThrows(IOException.class, () -> StreamingAddressBookReader.read(write(""), Optional.empty()));
+        assertThrows(IOException.class, () ->
+                StreamingAddressBookReader.read(write("{ \"persons\": {} }"), Optional.empty()));
+    }
+
+    private Path write(String json) throws IOException {
+        Path file = testFolder.resolve("streamed.json");
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static void assertSameReport(LoadReport expected, LoadReport actual) {
+        assertEquals(expected.getModelData().getAddressBook(), actual.getModelData().getAddressBook());
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static String describe(LoadReport report) {
+        String persons = report.getInvalids().stream()
+                .map(e -> e.index() + ":" + e.reason() + ":" + e.name() + ":" + e.duplicateOf() + ":"
+                        + e.invalidFields())
+                .collect(Collectors.joining("\n"));
+        String properties = report.getInvalidPropertyEntries().stream()
+                .map(e -> e.index() + ":" + e.reason() + ":" + e.propertyName() + ":" + e.duplicateOf() + ":"
+                        + e.invalidFields())
+                .collect(Collectors.joining("\n"));
+        return persons + "\n--\n" + properties;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_A;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_B;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class StreamingAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook addressBook;
+    private Path file;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addProperty(PROPERTY_A);
+        addressBook.addProperty(PROPERTY_B);
+        file = testFolder.resolve("nested").resolve("addressbook.json");
+    }
+
+    @Test
+    public void write_fromModel_sameAsDataBinding() throws Exception {
+        StreamingAddressBookWriter.write(addressBook, file, false);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(expected, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_fromSnapshot_sameAsFromModel() throws Exception {
+        StreamingAddressBookWriter.write(addressBook, file, false);
+        byte[] fromModel = Files.readAllBytes(file);
+
+        StreamingAddressBookWriter.write(new JsonSerializableAddressBook(addressBook), file, false);
+
+        assertEquals(new String(fromModel, StandardCharsets.UTF_8), Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_compact_singleLineThatReadsBack() throws Exception {
+        StreamingAddressBookWriter.write(addressBook, file, true);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertEquals(addressBook, StreamingAddressBookReader.read(file, Optional.empty()).getModelData()
+                .getAddressBook());
+    }
+
+    @Test
+    public void write_forcedToDisk_wholeFileWrittenToChannelFirst() throws Exception {
+        List<Long> sizesWhenForced = new ArrayList<>();
+
+        // Small enough to fit in the buffers, so nothing reaches the channel unless they are flushed
+        StreamingAddressBookWriter.write(addressBook, file, false, channel -> {
+            sizesWhenForced.add(channel.size());
+            channel.force(true);
+        });
+
+        assertEquals(List.of(Files.size(file)), sizesWhenForced);
+    }
+
+    @Test
+    public void write_existingFile_replacedWithoutLeavingTempFile() throws Exception {
+        StreamingAddressBookWriter.write(new AddressBook(), file, false);
+        StreamingAddressBookWriter.write(addressBook, file, false);
+
+        Path tempFile = file.resolveSibling(file.getFileName() + StreamingAddressBookWriter.TEMP_FILE_SUFFIX);
+        assertFalse(Files.exists(tempFile));
+        assertEquals(addressBook, StreamingAddressBookReader.read(file, Optional.empty()).getModelData()
+                .getAddressBook());
+    }
+}
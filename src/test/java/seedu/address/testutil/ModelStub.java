@@ -0,0 +1,182 @@
+package seedu.address.testutil;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.property.Property;
+
+/**
+ * A default model stub that has all of the methods failing. Tests extend it, overriding only the methods the code
+ * under test is expected to call.
+ */
+public class ModelStub implements Model {
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isAddressBookDirty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void markAddressBookSaved(long version) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void markAddressBookDirty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasProperty(Property property) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removePropertyFromAllPersons(Property propertyToDelete) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updatePropertyInAllPersons(Property oldProperty, Property newProperty) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsWithEmail(Email email) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getOwnersOf(Property property) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsInterestedIn(Property property) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteProperty(Property target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addProperty(Property property) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setProperty(Property target, Property editedProperty) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Property> getFilteredPropertyList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPropertyList(Predicate<Property> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Property> getFilteredPropertyPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Headless tests for CommandBox.isPreviewable (no JavaFX required).
+ */
+public class CommandBoxTest {
+
+    @Test
+    public void isPreviewable_findCommands_returnsTrue() {
+        assertTrue(CommandBox.isPreviewable("find n/Al"));
+        assertTrue(CommandBox.isPreviewable("  find t/friends"));
+        assertTrue(CommandBox.isPreviewable("findp n/Chapel"));
+        assertTrue(CommandBox.isPreviewable("findp min/500000"));
+    }
+
+    @Test
+    public void isPreviewable_otherText_returnsFalse() {
+        assertFalse(CommandBox.isPreviewable(""));
+        assertFalse(CommandBox.isPreviewable("find"));
+        assertFalse(CommandBox.isPreviewable("findp "));
+        assertFalse(CommandBox.isPreviewable("finder n/Al"));
+        assertFalse(CommandBox.isPreviewable("delete 1"));
+    }
+}
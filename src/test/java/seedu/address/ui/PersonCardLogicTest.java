@@ -47,4 +47,16 @@ public class PersonCardLogicTest {
         List<String> texts = PersonCard.renderPropertyTexts(List.of(a, b, c));
         assertEquals(List.of("Alpha, ", "Beta, ", "Gamma"), texts);
     }
+
+    /**
+     * Builds texts only for the first items up to the limit, keeping the comma of the last text shown.
+     */
+    @Test
+    public void renderPropertyTexts_limit_onlyFirstItems() {
+        Property a = new Property(new Address("A"), new Price(1), new PropertyName("Alpha"));
+        Property b = new Property(new Address("B"), new Price(2), new PropertyName("Beta"));
+        Property c = new Property(new Address("C"), new Price(3), new PropertyName("Gamma"));
+        assertEquals(List.of("Alpha, ", "Beta, "), PersonCard.renderPropertyTexts(List.of(a, b, c), 2));
+        assertEquals(List.of("Alpha, ", "Beta, ", "Gamma"), PersonCard.renderPropertyTexts(List.of(a, b, c), 5));
+    }
 }
@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.lang.reflect.Field;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.FutureTask;
@@ -17,9 +18,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.FlowPane;
 import seedu.address.MainApp;
 import seedu.address.model.person.Person;
@@ -388,6 +391,109 @@ public class UiPartTest {
         assertEquals(0, ownedPane.getChildren().size());
     }
 
+    /**
+     * Verifies that rebinding a {@link PersonCard} to another person replaces everything the card showed before,
+     * including chips the new person does not have.
+     */
+    @Test
+    public void personCard_setPerson_replacesPreviousPerson() throws Exception {
+        assumeTrue(fxReady);
+        Property a1 = new Property(new Address("A1"), new Price(11), new PropertyName("Alpha"));
+        Property b1 = new Property(new Address("B1"), new Price(22), new PropertyName("Beta"));
+        Person before = new PersonBuilder(TypicalPersons.ALICE).withTags("friends", "owesMoney").build();
+        before = new Person(before.getName(), before.getPhone(), before.getEmail(), before.getAddress(),
+                before.getTags(), List.of(a1, b1), List.of(a1));
+        Person after = new PersonBuilder(TypicalPersons.BENSON).withTags("colleague").build();
+        after = new Person(after.getName(), after.getPhone(), after.getEmail(), after.getAddress(),
+                after.getTags(), List.of(b1), List.of());
+
+        Person first = before;
+        Person second = after;
+        PersonCard card = runOnFxAndGet(() -> {
+            PersonCard rebound = new PersonCard(first, 1);
+            rebound.setPerson(second, 7);
+            return rebound;
+        });
+
+        Label idLabel = getPrivateField(card, "id");
+        Label nameLabel = getPrivateField(card, "name");
+        FlowPane tagsPane = getPrivateField(card, "tags");
+        FlowPane ownedPane = getPrivateField(card, "ownedProperties");
+        FlowPane interestedPane = getPrivateField(card, "interestedProperties");
+
+        assertEquals(second, card.getPerson());
+        assertEquals("7. ", idLabel.getText());
+        assertEquals(second.getName().fullName, nameLabel.getText());
+        assertEquals(1, tagsPane.getChildren().size());
+        assertEquals("colleague", ((Label) tagsPane.getChildren().get(0)).getText());
+        assertEquals(1, ownedPane.getChildren().size());
+        assertEquals("Beta", ((Label) ownedPane.getChildren().get(0)).getText());
+        assertEquals(0, interestedPane.getChildren().size());
+    }
+
+    /**
+     * Verifies that {@link PersonCard} shows a capped number of chips and a summary of the rest for a person with
+     * many owned properties.
+     */
+    @Test
+    public void personCard_manyOwnedProperties_collapsedWithSummary() throws Exception {
+        assumeTrue(fxReady);
+        List<Property> owned = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            owned.add(new Property(new Address("Unit " + i), new Price(i + 1), new PropertyName("Unit " + i)));
+        }
+        Person base = new PersonBuilder(TypicalPersons.ALICE).build();
+        Person p = new Person(base.getName(), base.getPhone(), base.getEmail(), base.getAddress(),
+                base.getTags(), owned, List.of());
+
+        PersonCard card = runOnFxAndGet(() -> new PersonCard(p, 1));
+        FlowPane ownedPane = getPrivateField(card, "ownedProperties");
+
+        assertEquals(9, ownedPane.getChildren().size());
+        assertEquals("Unit 7, ", ((Label) ownedPane.getChildren().get(7)).getText());
+        assertEquals("+192 more", ((Label) ownedPane.getChildren().get(8)).getText());
+    }
+
+    /**
+     * Ensures clearing the command box after a find command was previewed cancels the preview, and clearing it before
+     * the preview ran does not.
+     */
+    @Test
+    public void commandBox_clearedAfterPreview_previewCancelled() throws Exception {
+        assumeTrue(fxReady);
+        List<String> calls = new ArrayList<>();
+        CommandBox commandBox = runOnFxAndGet(() -> new CommandBox((commandText, onFailure) -> { },
+                new CommandBox.CommandPreviewer() {
+                    @Override
+                    public void preview(String commandText) {
+                        calls.add("preview " + commandText);
+                    }
+
+                    @Override
+                    public void cancelPreview() {
+                        calls.add("cancel");
+                    }
+                }));
+        Field textField = CommandBox.class.getDeclaredField("commandTextField");
+        textField.setAccessible(true);
+        Field previewDelay = CommandBox.class.getDeclaredField("previewDelay");
+        previewDelay.setAccessible(true);
+
+        runOnFxAndGet(() -> {
+            TextField field = (TextField) textField.get(commandBox);
+            field.setText("find n/be");
+            field.setText("");
+            field.setText("find n/al");
+            // Ends the pause in typing at once
+            PauseTransition delay = (PauseTransition) previewDelay.get(commandBox);
+            delay.getOnFinished().handle(null);
+            field.setText("");
+            return null;
+        });
+
+        assertEquals(List.of("preview find n/al", "cancel"), calls);
+    }
+
     /**
      * Runs a callable on the JavaFX application thread and returns its result.
      */
@@ -461,9 +567,10 @@ public class UiPartTest {
                 fillMethod.setAccessible(true);
                 fillMethod.invoke(window);
                 java.lang.reflect.Method execMethod =
-                        seedu.address.ui.MainWindow.class.getDeclaredMethod("executeCommand", String.class);
+                        seedu.address.ui.MainWindow.class.getDeclaredMethod("executeCommand", String.class,
+                                Runnable.class);
                 execMethod.setAccessible(true);
-                execMethod.invoke(window, "test");
+                execMethod.invoke(window, "test", (Runnable) () -> { });
                 return null;
             });
         } catch (Exception e) {
@@ -491,9 +598,10 @@ public class UiPartTest {
                 fillMethod.setAccessible(true);
                 fillMethod.invoke(window);
                 java.lang.reflect.Method execMethod =
-                        seedu.address.ui.MainWindow.class.getDeclaredMethod("executeCommand", String.class);
+                        seedu.address.ui.MainWindow.class.getDeclaredMethod("executeCommand", String.class,
+                                Runnable.class);
                 execMethod.setAccessible(true);
-                execMethod.invoke(window, "test");
+                execMethod.invoke(window, "test", (Runnable) () -> { });
                 return null;
             });
         } catch (Exception e) {
@@ -522,9 +630,10 @@ public class UiPartTest {
                 fillMethod.setAccessible(true);
                 fillMethod.invoke(window);
                 java.lang.reflect.Method execMethod =
-                        seedu.address.ui.MainWindow.class.getDeclaredMethod("executeCommand", String.class);
+                        seedu.address.ui.MainWindow.class.getDeclaredMethod("executeCommand", String.class,
+                                Runnable.class);
                 execMethod.setAccessible(true);
-                execMethod.invoke(window, "test");
+                execMethod.invoke(window, "test", (Runnable) () -> { });
                 return null;
             });
         } catch (Exception e) {
@@ -560,6 +669,15 @@ public class UiPartTest {
             return new seedu.address.logic.commands.CommandResult("Test feedback", nextViewType);
         }
 
+        @Override
+        public java.util.Optional<seedu.address.logic.commands.CommandResult> preview(String commandText) {
+            return java.util.Optional.empty();
+        }
+
+        @Override
+        public void cancelPreview() {
+        }
+
         @Override
         public seedu.address.model.ReadOnlyAddressBook getAddressBook() {
             return new seedu.address.model.AddressBook();